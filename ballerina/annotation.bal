@@ -27,6 +27,21 @@
 # + discoveryConfig - HTTP client configurations for resource discovery
 # + customParams - Additional parameters, which need to be sent with the subscription/unsubscription request
 # + customHeaders - Additional HTTP headers, which need to be sent with the subscription/unsubscription request
+# + batchConfig - Configurations related to the batched content delivery via `onEventNotificationBatch`
+# + concurrencyConfig - Configurations to bound the concurrently processed content distribution requests
+# + orderingConfig - Configurations to deliver the content distribution requests in their arrival order per ordering key
+# + asyncDeliveryConfig - Configurations to acknowledge the content distribution requests before they are delivered
+# + maxInflatedContentSize - The maximum size in bytes to which a compressed content is inflated. A content distribution
+#                            request which inflates beyond this size is responded with `413 Payload Too Large`
+# + lazyContent - Whether to deliver the raw content, which is parsed only when it is accessed via `websub:getContent`
+# + streamingConfig - Configurations to deliver the content of the content distribution requests as a stream of chunks
+# + headerAllowlist - The names of the request headers to be included in the content distribution message. All the
+#                     request headers are included if this is not provided
+# + detachHttpRequest - Whether to release the original `http:Request` once the content distribution message is
+#                       delivered, retaining only a snapshot of the request headers for `websub:getHeader`
+# + deduplicationConfig - Configurations to suppress the duplicate deliveries of the content distribution requests
+# + routes - Routes which dispatch the content distribution requests to the methods of the service based on the topic.
+#            The content of the topics which do not match any route is delivered via `onEventNotification`
 # + servicePath - The generated service-path if the service-path is not provided. This is auto-generated at the compile-time.
 public type SubscriberServiceConfiguration record {|
     string|[string, string] target?;
@@ -43,6 +58,17 @@ public type SubscriberServiceConfiguration record {|
     |} discoveryConfig?;
     map<string> customParams?;
     map<string> customHeaders?;
+    EventBatchConfig batchConfig = {};
+    ConcurrencyConfig concurrencyConfig?;
+    OrderingConfig orderingConfig?;
+    AsyncDeliveryConfig asyncDeliveryConfig?;
+    int maxInflatedContentSize = DEFAULT_MAX_INFLATED_CONTENT_SIZE;
+    boolean lazyContent = false;
+    ContentStreamingConfig streamingConfig?;
+    string[] headerAllowlist?;
+    boolean detachHttpRequest = false;
+    DeduplicationConfig deduplicationConfig?;
+    TopicRoute[] routes?;
     readonly byte[] servicePath = [];
 |};
 
@@ -15,6 +15,7 @@
 // under the License.
 
 import ballerina/http;
+import ballerina/mime;
 
 const string HUB_CHALLENGE = "hub.challenge";
 const string HUB_MODE = "hub.mode";
@@ -32,13 +33,19 @@ const string ACCEPT_HEADER = "Accept";
 const string ACCEPT_LANGUAGE_HEADER = "Accept-Language";
 const string CONTENT_TYPE = "Content-Type";
 const string X_HUB_SIGNATURE = "X-Hub-Signature";
+const string RETRY_AFTER = "Retry-After";
+const string LINK_HEADER = "Link";
+const string CONTENT_ENCODING = "Content-Encoding";
 
-const string COMMON_SERVICE_PATH = "/";
+const string GZIP = "gzip";
+const string X_GZIP = "x-gzip";
+const string DEFLATE = "deflate";
+const string IDENTITY = "identity";
+
+// the default maximum size of a compressed content once it is inflated, which is 10 MiB
+const int DEFAULT_MAX_INFLATED_CONTENT_SIZE = 10485760;
 
-const string SHA1 = "sha1";
-const string SHA_256 = "sha256";
-const string SHA_384 = "sha384";
-const string SHA_512 = "sha512";
+const string COMMON_SERVICE_PATH = "/";
 
 const string HTTP = "http";
 const string HTTPS = "https";
@@ -107,9 +114,215 @@ public type Acknowledgement record {
 # Provides a set of configurations for configure the underlying HTTP listener of the WebSub listener.
 # 
 # + gracefulShutdownPeriod - The time period in seconds to wait for unsubscription verification
+# + multiplexing - The configurations to serve all the attached services through a single path-multiplexed HTTP
+#                  service, instead of attaching a HTTP service per subscriber service
+# + leaseRenewal - The configurations to renew the subscriptions of the attached services before their leases expire
+# + subscriptionInitiation - The configurations to initiate the subscriptions of the attached services when the
+#                            listener is started
 public type ListenerConfiguration record {|
     *http:ListenerConfiguration;
     decimal gracefulShutdownPeriod = 20;
+    MultiplexingConfig multiplexing?;
+    LeaseRenewalConfig leaseRenewal?;
+    SubscriptionInitiationConfig subscriptionInitiation = {};
+|};
+
+# Provides a set of configurations for the initiation of the subscriptions of the attached services, when the
+# `websub:Listener` is started. The subscriptions are initiated concurrently, and a failed subscription does not
+# prevent the subscriptions of the other services.
+#
+# + parallelism - The maximum number of subscriptions initiated concurrently
+# + requestsPerSecond - The maximum rate of the subscription requests sent to a single `hub`. The rate is not limited
+#                       if this is not provided
+public type SubscriptionInitiationConfig record {|
+    int parallelism = 10;
+    decimal requestsPerSecond?;
+|};
+
+# Provides a set of configurations for the renewal of the subscription leases. A subscription is renewed by sending a
+# new subscription request to the `hub` once the configured fraction of the lease granted via `hub.lease_seconds` (or
+# the configured `leaseSeconds` if the `hub` does not provide it) has elapsed.
+#
+# + renewalFraction - The fraction of the lease after which the subscription is renewed
+# + jitterFraction - The maximum fraction of the renewal delay by which a renewal is brought forward at random, so
+#                    that the subscriptions verified together are not renewed at once
+# + tickDuration - The resolution of the renewal scheduler in seconds
+# + retryInterval - The initial delay in seconds to retry a failed renewal. The delay is doubled for every consecutive
+#                   failure, and it is capped at half of the remaining lease
+public type LeaseRenewalConfig record {|
+    decimal renewalFraction = 0.8;
+    decimal jitterFraction = 0.1;
+    decimal tickDuration = 1;
+    decimal retryInterval = 5;
+|};
+
+# Provides a set of configurations for the path-multiplexed callback endpoint. When enabled, a single HTTP service
+# is attached to the underlying HTTP listener at the `prefix`, and the content for a subscriber service attached with
+# the path `{subscriptionId}` is routed from `/{prefix}/{subscriptionId}`.
+#
+# + prefix - The path prefix owned by the multiplexed HTTP service
+public type MultiplexingConfig record {|
+    string prefix = "subscriptions";
+|};
+
+# Provides a set of configurations for the batched content delivery. These are only used when the
+# `websub:SubscriberService` implements the `onEventNotificationBatch` method.
+#
+# + maxBatchSize - The maximum number of content distribution messages to be delivered in a single batch
+# + maxLingerTime - The maximum time period in seconds to wait for a batch to be filled before it is delivered
+public type EventBatchConfig record {|
+    int maxBatchSize = 100;
+    decimal maxLingerTime = 0.1;
+|};
+
+# Provides a set of configurations to bound the content distribution requests concurrently processed by a
+# `websub:SubscriberService`. When the limits are exceeded, the content distribution requests are rejected without
+# being processed so that the `hub` could retry the delivery later.
+#
+# + maxConcurrency - The maximum number of content distribution requests to be processed concurrently
+# + maxWaitingRequests - The maximum number of content distribution requests allowed to wait until a processing slot
+#                        becomes available
+# + rejectionStatusCode - The HTTP status code to be used when a content distribution request is rejected
+# + retryAfter - The value (in seconds) for the `Retry-After` header included when a content distribution request 
+#                is rejected
+public type ConcurrencyConfig record {|
+    int maxConcurrency;
+    int maxWaitingRequests = 0;
+    http:STATUS_TOO_MANY_REQUESTS|http:STATUS_SERVICE_UNAVAILABLE rejectionStatusCode = http:STATUS_TOO_MANY_REQUESTS;
+    int retryAfter = 1;
+|};
+
+# Represents the source from which the ordering key of a content distribution request is derived.
+public enum OrderingKeySource {
+    # The `topic` URL advertised in the `Link` header (`rel="self"`) of the content distribution request
+    ORDER_BY_TOPIC,
+    # The value of a specific HTTP header of the content distribution request
+    ORDER_BY_HEADER,
+    # The callback URL of the subscriber service, hence all the content distribution requests share a single order
+    ORDER_BY_CALLBACK
+}
+
+# Provides a set of configurations for the ordered content delivery. The content distribution requests which share
+# the same ordering key are delivered one at a time in their arrival order, while the content distribution requests
+# with different ordering keys are delivered concurrently. A content distribution request which does not carry its 
+# ordering key (the configured header or the `topic`) is delivered without waiting for any other request. When the
+# `concurrencyConfig` is also provided, a request which waits for its ordering key does not hold a processing slot.
+#
+# + keySource - The source from which the ordering key is derived
+# + headerName - The name of the HTTP header to be used as the ordering key when the `keySource` is `ORDER_BY_HEADER`.
+#                This is required for `ORDER_BY_HEADER`, and the service could not be attached without it
+public type OrderingConfig record {|
+    OrderingKeySource keySource = ORDER_BY_TOPIC;
+    string headerName?;
+|};
+
+# Provides a set of configurations for the asynchronous content delivery. When enabled, a verified content distribution
+# request is acknowledged to the `hub` as soon as it is added to an internal bounded queue, and the queued messages are
+# delivered to the `websub:SubscriberService` by a set of workers.
+#
+# + queueCapacity - The maximum number of accepted content distribution messages waiting to be delivered
+# + workers - The number of workers which concurrently deliver the queued content distribution messages
+# + retryAfter - The value (in seconds) for the `Retry-After` header included when a content distribution request 
+#                is rejected since the queue is full
+# + spoolConfig - Configurations of the local spool used to persist the accepted content distribution messages until
+#                 they are delivered
+# + payloadStorage - Configurations to store the content of the queued content distribution messages outside the heap
+public type AsyncDeliveryConfig record {|
+    int queueCapacity = 1000;
+    int workers = 1;
+    int retryAfter = 1;
+    SpoolConfig spoolConfig?;
+    PayloadStorageConfig payloadStorage?;
+|};
+
+# Provides a set of configurations for the local spool which persists the accepted content distribution messages until
+# they are delivered to the `websub:SubscriberService`. The messages which are not delivered before the process stops
+# are delivered when the `websub:Listener` is started again, before any new content distribution request is accepted.
+#
+# + directory - The directory in which the spool files are stored. This should be unique for each subscriber service
+# + segmentSize - The size of a spool segment file in bytes. A content distribution message should fit into a single
+#                 segment
+public type SpoolConfig record {|
+    string directory;
+    int segmentSize = 67108864;
+|};
+
+# Provides a set of configurations for the tiered storage of the content of the queued content distribution messages.
+# The raw content of a queued message is kept on the heap, in pooled direct buffers or in a memory-mapped temporary file
+# depending on its size, and it is parsed only when the message is about to be delivered.
+#
+# + heapThreshold - The maximum size of a content (in bytes) which is kept on the heap
+# + directMemoryLimit - The maximum size (in bytes) of the direct buffer pool used for the contents larger than the
+#                       `heapThreshold`. The contents which do not fit into the pool are spilled to temporary files
+# + fileThreshold - The maximum size of a content (in bytes) which is kept in the direct buffer pool. The larger
+#                   contents are spilled to temporary files
+# + directory - The directory in which the temporary files are created. The default temporary directory is used if
+#               this is not provided
+public type PayloadStorageConfig record {|
+    int heapThreshold = 65536;
+    int directMemoryLimit = 67108864;
+    int fileThreshold = 4194304;
+    string directory?;
+|};
+
+# Provides a set of configurations for the streamed content delivery. The content distribution requests with the
+# configured content-types are delivered without buffering their content, and the content could be read in chunks via
+# `websub:getContentStream`. When a `secret` is configured, the content is verified while it is being read and the
+# stream completes with an error if the verification fails.
+#
+# + contentTypes - The content-types of which the content should be streamed
+# + chunkSize - The maximum size of a content chunk in bytes
+public type ContentStreamingConfig record {|
+    string[] contentTypes = [mime:APPLICATION_OCTET_STREAM, mime:APPLICATION_XML];
+    int chunkSize = 8192;
+|};
+
+# Provides a set of configurations to suppress the duplicate deliveries of the content distribution requests, which
+# are usually the retries of the `hub`. A duplicate is acknowledged without delivering it to the
+# `websub:SubscriberService`.
+#
+# + deliveryIdHeader - The name of the header which carries the unique identifier of a delivery. When this is not
+#                      provided or the header is not available, a delivery is identified by a hash of its topic and
+#                      content. A duplicate with a delivery-id is acknowledged once its signature is verified, without
+#                      parsing its content
+# + capacity - The maximum number of deliveries which are remembered
+# + ttl - The period (in seconds) for which a delivery is remembered
+public type DeduplicationConfig record {|
+    string deliveryIdHeader?;
+    int capacity = 10000;
+    decimal ttl = 300;
+|};
+
+# Represents a route which dispatches the content distribution requests of the matching topics to a method of the
+# `websub:SubscriberService`. The topic is resolved from the `Link` header (`rel="self"`) of the request.
+#
+# + topic - The topic pattern, which is matched against the `/` separated segments of the topic. A `*` segment matches
+#           any single segment and a trailing `**` segment matches any number of remaining segments. When more than one
+#           route matches a topic, the literal segments are preferred over `*`, and `*` is preferred over `**`
+# + handler - The name of the service method, which accepts the same parameter as `onEventNotification`
+public type TopicRoute record {|
+    string topic;
+    string handler;
+|};
+
+# Represents the statistics of the duplicate-delivery suppression.
+#
+# + hits - The number of suppressed duplicate deliveries
+# + misses - The number of deliveries which were not duplicates
+public type DeduplicationStats record {|
+    int hits;
+    int misses;
+|};
+
+# Represents a `websub:SubscriberService` to be attached to the `websub:Listener` along with other services.
+#
+# + service - The `websub:SubscriberService` object to attach
+# + name - The path of the Service to be hosted
+# + config - Custom `websub:SubscriberServiceConfiguration`, which is used instead of the service annotation
+public type ServiceAttachment record {|
+    SubscriberService 'service;
+    string[]|string? name = ();
+    SubscriberServiceConfiguration config?;
 |};
 
 # Record representing a WebSub subscription change request-body.
@@ -155,6 +368,44 @@ type RequestQueryParams record {|
     string hubReason?;
 |};
 
+# Record representing a resolved `Content-Type` header value.
+# 
+# + mediaType - The media type without its parameters
+# + charset - The value of the `charset` parameter if it is available
+# + supported - Whether the media type is supported for the content distribution
+type ContentTypeDescriptor record {|
+    string mediaType;
+    string? charset;
+    boolean supported;
+|};
+
+# Record representing a `websub:SubscriberService` which is prepared to be registered in the `websub:Listener`.
+# 
+# + servicePath - The path in which the service is hosted
+# + subscriberService - The `websub:SubscriberService` object
+# + httpService - The `http:Service` which dispatches the requests to the `websub:SubscriberService`
+# + config - The `websub:SubscriberServiceConfiguration` of the service
+type ServiceRegistration record {|
+    string servicePath;
+    SubscriberService subscriberService;
+    HttpService httpService;
+    SubscriberServiceConfiguration config;
+|};
+
+# Represents an immutable `json` content, which is parsed for the remote methods accepting readonly messages.
+type ReadOnlyJson readonly & json;
+
+# Record representing a content distribution message recovered from the local spool.
+# 
+# + offset - The offset of the message in the spool
+# + headers - The HTTP headers of the original content distribution request
+# + payload - The raw body of the original content distribution request
+type SpooledEventNotification record {|
+    int offset;
+    map<string[]> headers;
+    byte[] payload;
+|};
+
 # Common response, which could be used for `websub:Acknowledgement`.
 public final readonly & Acknowledgement ACKNOWLEDGEMENT = {};
 
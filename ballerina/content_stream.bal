@@ -0,0 +1,51 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/io;
+
+# Represents the content of a streamed content distribution request which is verified against the `X-Hub-Signature`
+# while it is being read. The last read of the stream returns an `io:Error` if the verification fails.
+class VerifiedContentStream {
+    private final stream<byte[], io:Error?> byteStream;
+    private final handle verifier;
+    private boolean isCompleted = false;
+
+    isolated function init(stream<byte[], io:Error?> byteStream, handle verifier) {
+        self.byteStream = byteStream;
+        self.verifier = verifier;
+    }
+
+    public isolated function next() returns record {| byte[] value; |}|io:Error? {
+        if self.isCompleted {
+            return;
+        }
+        record {| byte[] value; |}|io:Error? chunk = self.byteStream.next();
+        if chunk is record {| byte[] value; |} {
+            updateContentVerifier(self.verifier, chunk.value);
+            return chunk;
+        }
+        self.isCompleted = true;
+        if chunk is () && !isContentVerified(self.verifier) {
+            return error io:GenericError("Content verification failed for the streamed content");
+        }
+        return chunk;
+    }
+
+    public isolated function close() returns io:Error? {
+        self.isCompleted = true;
+        return self.byteStream.close();
+    }
+}
@@ -41,5 +41,8 @@ public type SubscriptionDeniedError distinct Error;
 # Represents an internal hub error occurred during subscription verification.
 public type InternalHubError distinct Error;
 
+# Represents an error occurred when a compressed content inflates beyond the configured maximum size.
+public type ContentTooLargeError distinct Error;
+
 # Represents the subscription-delete action from the `subscriber`.
 public type SubscriptionDeletedError distinct Error;
@@ -24,35 +24,80 @@ isolated service class HttpService {
     private final HttpToWebsubAdaptor adaptor;
     private final string callback;
     private final string? secretKey;
+    private final readonly & ConcurrencyConfig? concurrencyConfig;
+    private final readonly & OrderingConfig? orderingConfig;
+    private final readonly & AsyncDeliveryConfig? asyncDeliveryConfig;
+    private final boolean lazyContent;
+    private final int maxInflatedContentSize;
+    private final readonly & ContentStreamingConfig? streamingConfig;
+    private final readonly & string[]? headerAllowlist;
+    private final boolean isHeaderSnapshotRequired;
+    private final readonly & DeduplicationConfig? deduplicationConfig;
     private final boolean isSubscriptionValidationDeniedAvailable;
     private final boolean isSubscriptionVerificationAvailable;
     private final boolean isUnsubscriptionVerificationAvailable;
     private final boolean isEventNotificationAvailable;
+    private final boolean isEventNotificationBatchAvailable;
     private final boolean isOnHubErrorAvailable;
+    private final LeaseRenewalScheduler? leaseRenewalScheduler;
     private boolean unsubscriptionVerified;
 
-    isolated function init(HttpToWebsubAdaptor adaptor, string callback, string? secretKey) returns error? {
+    isolated function init(HttpToWebsubAdaptor adaptor, string callback,
+                           SubscriberServiceConfiguration serviceConfig,
+                           LeaseRenewalScheduler? leaseRenewalScheduler = ()) returns error? {
+        OrderingConfig? orderingConfig = serviceConfig?.orderingConfig;
+        if orderingConfig is OrderingConfig && orderingConfig.keySource == ORDER_BY_HEADER
+                && orderingConfig?.headerName is () {
+            return error Error("The `headerName` should be provided to derive the ordering key from a header");
+        }
         self.adaptor = adaptor;
+        self.leaseRenewalScheduler = leaseRenewalScheduler;
         self.callback = callback;
-        self.secretKey = secretKey;
+        self.secretKey = serviceConfig?.secret;
+        self.concurrencyConfig = serviceConfig?.concurrencyConfig.cloneReadOnly();
+        self.orderingConfig = orderingConfig.cloneReadOnly();
+        self.asyncDeliveryConfig = serviceConfig?.asyncDeliveryConfig.cloneReadOnly();
+        self.lazyContent = serviceConfig.lazyContent;
+        self.maxInflatedContentSize = serviceConfig.maxInflatedContentSize;
+        self.streamingConfig = serviceConfig?.streamingConfig.cloneReadOnly();
+        self.headerAllowlist = serviceConfig?.headerAllowlist.cloneReadOnly();
+        // the headers outside the allowlist should remain readable once the request is released from the message
+        self.isHeaderSnapshotRequired = self.headerAllowlist !is ()
+            && (serviceConfig.detachHttpRequest || serviceConfig?.asyncDeliveryConfig?.payloadStorage !is ());
+        self.deduplicationConfig = serviceConfig?.deduplicationConfig.cloneReadOnly();
         self.unsubscriptionVerified = false;
         string[] methodNames = adaptor.getServiceMethodNames();
         self.isSubscriptionValidationDeniedAvailable = isMethodAvailable("onSubscriptionValidationDenied", methodNames);
         self.isSubscriptionVerificationAvailable = isMethodAvailable("onSubscriptionVerification", methodNames);
         self.isUnsubscriptionVerificationAvailable = isMethodAvailable("onUnsubscriptionVerification", methodNames);
         self.isEventNotificationAvailable = isMethodAvailable("onEventNotification", methodNames);
+        self.isEventNotificationBatchAvailable = isMethodAvailable("onEventNotificationBatch", methodNames);
         self.isOnHubErrorAvailable = isMethodAvailable("onHubError", methodNames);
     }
 
     isolated resource function post .(http:Caller caller, http:Request request) returns Error? {
+        return self.processPost(caller, request);
+    }
+
+    isolated function processPost(http:Caller caller, http:Request request) returns Error? {
         http:Response response = new;
         response.statusCode = http:STATUS_ACCEPTED;
-        if self.isEventNotificationAvailable {
+        if self.isEventNotificationAvailable || self.isEventNotificationBatchAvailable {
             string? configuredSecret = self.secretKey;
             string secretKey = configuredSecret is () ? "" : configuredSecret;
-            error? result = processEventNotification(caller, request, response, self.adaptor, secretKey);
+            OrderingConfig? orderingConfig = self.orderingConfig;
+            string? orderingKey = orderingConfig is OrderingConfig ? retrieveOrderingKey(request, orderingConfig) : ();
+            // the ordering lane is entered before the delivery permit is acquired, and both of them are released
+            // natively regardless of how the delivery completes
+            boolean|error result = self.adaptor.processEventNotification(self, caller, request, response, secretKey,
+                                                                         orderingKey);
+            ConcurrencyConfig? concurrencyConfig = self.concurrencyConfig;
             if result is error {
                 response.statusCode = http:STATUS_INTERNAL_SERVER_ERROR;
+            } else if !result && concurrencyConfig is ConcurrencyConfig {
+                // the request is rejected without reading the payload, so that the `hub` could retry it later
+                response.statusCode = concurrencyConfig.rejectionStatusCode;
+                response.setHeader(RETRY_AFTER, concurrencyConfig.retryAfter.toString());
             }
         } else {
             response.statusCode = http:STATUS_NOT_IMPLEMENTED;
@@ -60,7 +105,74 @@ isolated service class HttpService {
         check respondToRequest(caller, response);
     }
 
+    isolated function dispatchEventNotification(http:Caller caller, http:Request request, http:Response response,
+                                                string secretKey, string? orderingKey) returns error? {
+        if self.asyncDeliveryConfig is AsyncDeliveryConfig {
+            return self.enqueueEventNotification(request, response, secretKey, orderingKey);
+        }
+        return processEventNotification(caller, request, response, self.adaptor, secretKey,
+                                        self.isEventNotificationBatchAvailable, self.lazyContent,
+                                        self.streamingConfig, self.headerAllowlist, self.deduplicationConfig,
+                                        self.maxInflatedContentSize, self.isHeaderSnapshotRequired);
+    }
+
+    isolated function enqueueEventNotification(http:Request request, http:Response response, string secretKey,
+                                               string? orderingKey) returns error? {
+        // when the payload storage is configured, the raw content is queued and it is parsed before the delivery
+        boolean isRawContentQueued = self.lazyContent || self.asyncDeliveryConfig?.payloadStorage !is ();
+        DeduplicationConfig? deduplicationConfig = self.deduplicationConfig;
+        string? deliveryId = deduplicationConfig is DeduplicationConfig
+            ? retrieveDeliveryId(request, deduplicationConfig) : ();
+        ContentDistributionMessage? message = check retrieveContentDistributionMessage(request, response, secretKey,
+                                                                                       isRawContentQueued, (),
+                                                                                       self.headerAllowlist,
+                                                                                       self.adaptor,
+                                                                                       self.maxInflatedContentSize,
+                                                                                       deliveryId);
+        if message is () {
+            return;
+        }
+        if deduplicationConfig is DeduplicationConfig && deliveryId is ()
+                && check isDuplicateEventNotification(self.adaptor, message, request) {
+            updateResponseBody(response, ACKNOWLEDGEMENT["body"], ACKNOWLEDGEMENT["headers"]);
+            return;
+        }
+        if self.isHeaderSnapshotRequired {
+            attachHeaderSnapshot(message, retrieveRequestHeaders(request));
+        }
+        boolean|error accepted = self.acceptEventNotification(message, request, orderingKey);
+        if accepted is boolean && accepted {
+            updateResponseBody(response, ACKNOWLEDGEMENT["body"], ACKNOWLEDGEMENT["headers"]);
+            return;
+        }
+        // the message is not accepted, hence it should be delivered when the `hub` retries it
+        self.adaptor.forgetEventNotification(message);
+        if accepted is error {
+            return accepted;
+        }
+        // the queue is either full or closed, hence the `hub` should retry the delivery later
+        AsyncDeliveryConfig? asyncDeliveryConfig = self.asyncDeliveryConfig;
+        response.statusCode = http:STATUS_SERVICE_UNAVAILABLE;
+        if asyncDeliveryConfig is AsyncDeliveryConfig {
+            response.setHeader(RETRY_AFTER, asyncDeliveryConfig.retryAfter.toString());
+        }
+    }
+
+    isolated function acceptEventNotification(ContentDistributionMessage message, http:Request request,
+                                              string? orderingKey) returns boolean|error {
+        // the raw request is only required when the accepted messages are spooled, and all of its headers are
+        // spooled regardless of the header allowlist, since they are required to rebuild the request
+        boolean isSpooled = self.asyncDeliveryConfig?.spoolConfig !is ();
+        byte[] payload = isSpooled ? check request.getBinaryPayload() : [];
+        map<string|string[]> headers = isSpooled ? retrieveRequestHeaders(request) : {};
+        return self.adaptor.enqueueEventNotification(message, request, orderingKey, headers, payload);
+    }
+
     isolated resource function get .(http:Caller caller, http:Request request) returns Error? {
+        return self.processGet(caller, request);
+    }
+
+    isolated function processGet(http:Caller caller, http:Request request) returns Error? {
         http:Response response = new;
         response.statusCode = http:STATUS_OK;
         RequestQueryParams params = retrieveRequestQueryParams(request);
@@ -115,15 +227,51 @@ isolated service class HttpService {
                 self.unsubscriptionVerified = true;
             }
         }
+        self.updateLeaseRenewal(params, response);
     }
 
-    public isolated function initiateSubscription() returns error? {
+    isolated function updateLeaseRenewal(RequestQueryParams params, http:Response response) {
+        LeaseRenewalScheduler? leaseRenewalScheduler = self.leaseRenewalScheduler;
+        if leaseRenewalScheduler is () {
+            return;
+        }
+        if params?.hubMode == MODE_UNSUBSCRIBE {
+            leaseRenewalScheduler.cancelLeaseRenewal(self);
+            return;
+        }
+        // the lease is renewed only when the subscription is accepted by the subscriber service
+        if response.statusCode != http:STATUS_OK {
+            return;
+        }
+        int? leaseSeconds = ();
+        string? hubLeaseSeconds = params?.hubLeaseSeconds;
+        if hubLeaseSeconds is string {
+            int|error grantedLeaseSeconds = int:fromString(hubLeaseSeconds.trim());
+            if grantedLeaseSeconds is int {
+                leaseSeconds = grantedLeaseSeconds;
+            } else {
+                log:printWarn("Invalid lease received from the hub", leaseSeconds = hubLeaseSeconds);
+            }
+        }
+        if leaseSeconds is () {
+            leaseSeconds = self.retrieveSubscriberConfig()?.leaseSeconds;
+        }
+        if leaseSeconds is int && leaseSeconds > 0 {
+            leaseRenewalScheduler.scheduleLeaseRenewal(self, leaseSeconds);
+        }
+    }
+
+    public isolated function initiateSubscription(SubscriptionInitiator? initiator = ()) returns error? {
         SubscriberServiceConfiguration? config = self.retrieveSubscriberConfig();
         if config is SubscriberServiceConfiguration {
-            check subscribe(config, self.callback);
+            check subscribe(config, self.callback, initiator);
         }
     }
 
+    isolated function getCallback() returns string {
+        return self.callback;
+    }
+
     public isolated function initiateUnsubscription() returns error? {
         SubscriberServiceConfiguration? config = self.retrieveSubscriberConfig();
         if config is SubscriberServiceConfiguration {
@@ -141,6 +289,88 @@ isolated service class HttpService {
         }
     }
 
+    isolated function startAsyncDelivery() {
+        AsyncDeliveryConfig? asyncDeliveryConfig = self.asyncDeliveryConfig;
+        if asyncDeliveryConfig is () {
+            return;
+        }
+        foreach int _ in 0 ..< int:max(1, asyncDeliveryConfig.workers) {
+            _ = start self.deliverQueuedEventNotifications();
+        }
+    }
+
+    isolated function deliverQueuedEventNotifications() {
+        while true {
+            ContentDistributionMessage? message = self.adaptor.takeQueuedEventNotification();
+            if message is () {
+                // the queue is closed and drained
+                return;
+            }
+            error? restored = restoreQueuedContent(message, self.lazyContent);
+            if restored is error {
+                log:printError("Error occurred while restoring the content of a queued message", restored);
+            } else {
+                // the `hub` has already been acknowledged, hence the response is only used to report the outcome
+                http:Response response = new;
+                // the original request is retained until the queued message is delivered, unless the content of the
+                // message is queued in the payload storage, where only a snapshot of the message headers is retained
+                deliverEventNotification(response, message, retrieveHttpRequest(message), self.adaptor,
+                                         self.isEventNotificationBatchAvailable);
+                if response.statusCode == http:STATUS_GONE {
+                    log:printWarn("Subscription deletion requested for an asynchronously delivered content", 
+                                    callback = self.callback);
+                }
+            }
+            error? result = self.adaptor.completeQueuedEventNotification(message);
+            if result is error {
+                log:printError("Error occurred while completing the content delivery", result);
+            }
+        }
+    }
+
+    isolated function replaySpooledEventNotifications() returns error? {
+        while true {
+            SpooledEventNotification? notification = self.adaptor.pollSpooledEventNotification();
+            if notification is () {
+                return;
+            }
+            http:Request request = new;
+            foreach [string, string[]] [headerName, headerValues] in notification.headers.entries() {
+                foreach string headerValue in headerValues {
+                    request.addHeader(headerName, headerValue);
+                }
+            }
+            request.setBinaryPayload(notification.payload, request.getContentType());
+            // the content has already been verified before it was spooled
+            http:Response response = new;
+            ContentDistributionMessage? message = check retrieveContentDistributionMessage(request, response, "",
+                                                                                           self.lazyContent, (),
+                                                                                           self.headerAllowlist,
+                                                                                           self.adaptor,
+                                                                                           self.maxInflatedContentSize);
+            if message is ContentDistributionMessage {
+                deliverEventNotification(response, message, request, self.adaptor, 
+                                         self.isEventNotificationBatchAvailable);
+            }
+            check self.adaptor.commitSpooledEventNotification(notification.offset);
+        }
+    }
+
+    isolated function drainAsyncDelivery(decimal timeout) {
+        if !self.adaptor.drainQueuedEventNotifications(timeout) {
+            log:printWarn("Pending content distribution messages were not delivered before the timeout", 
+                            callback = self.callback, pending = self.adaptor.getQueuedEventNotificationCount());
+        }
+    }
+
+    isolated function getPendingDeliveryCount() returns int {
+        return self.adaptor.getQueuedEventNotificationCount();
+    }
+
+    isolated function getDeduplicationStats() returns DeduplicationStats {
+        return self.adaptor.getDeduplicationStats();
+    }
+
     public isolated function isUnsubscriptionVerified() returns boolean {
         lock {
             return self.unsubscriptionVerified;
@@ -152,7 +382,8 @@ isolated service class HttpService {
     } external;
 }
 
-isolated function subscribe(SubscriberServiceConfiguration config, string callback) returns error? {
+isolated function subscribe(SubscriberServiceConfiguration config, string callback, 
+                            SubscriptionInitiator? initiator = ()) returns error? {
     string hub;
     string topic;
     [string, string]? resourceDetails = check retrieveResourceDetails(config);
@@ -162,6 +393,10 @@ isolated function subscribe(SubscriberServiceConfiguration config, string callba
         log:printWarn("Subscription not initiated as subscriber target-URL is not provided");
         return;
     }
+    if initiator is SubscriptionInitiator {
+        // the rate of the subscription requests is shaped per `hub`, once the `hub` is discovered
+        initiator.acquireHubPermit(hub);
+    }
     SubscriptionClient subscriberClientEp = check getSubscriberClient(hub, config?.httpConfig);
     SubscriptionChangeRequest request = retrieveSubscriptionRequest(topic, config, callback);
     SubscriptionChangeResponse response = check subscriberClientEp->subscribe(request);
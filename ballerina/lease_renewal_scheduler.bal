@@ -0,0 +1,78 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+import ballerina/log;
+
+# Schedules the renewal of the subscriptions of the services attached to a `websub:Listener`, before the leases
+# granted by the `hub` expire.
+isolated class LeaseRenewalScheduler {
+    isolated function init(LeaseRenewalConfig config) {
+        self.initLeaseRenewalScheduler(config);
+    }
+
+    isolated function initLeaseRenewalScheduler(LeaseRenewalConfig config) = @java:Method {
+        'class: "io.ballerina.stdlib.websub.NativeWebSubListenerAdaptor"
+    } external;
+
+    isolated function scheduleLeaseRenewal(HttpService httpService, int leaseSeconds) = @java:Method {
+        'class: "io.ballerina.stdlib.websub.NativeWebSubListenerAdaptor"
+    } external;
+
+    isolated function cancelLeaseRenewal(HttpService httpService) = @java:Method {
+        'class: "io.ballerina.stdlib.websub.NativeWebSubListenerAdaptor"
+    } external;
+
+    isolated function retryLeaseRenewal(HttpService httpService) returns boolean = @java:Method {
+        'class: "io.ballerina.stdlib.websub.NativeWebSubListenerAdaptor"
+    } external;
+
+    isolated function takeDueLeaseRenewals() returns HttpService[]? = @java:Method {
+        'class: "io.ballerina.stdlib.websub.NativeWebSubListenerAdaptor"
+    } external;
+
+    isolated function closeLeaseRenewalScheduler() = @java:Method {
+        'class: "io.ballerina.stdlib.websub.NativeWebSubListenerAdaptor"
+    } external;
+
+    isolated function renewLeases() {
+        while true {
+            HttpService[]? dueServices = self.takeDueLeaseRenewals();
+            if dueServices is () {
+                // the scheduler is closed
+                return;
+            }
+            foreach HttpService dueService in dueServices {
+                // the renewals are sent concurrently, so that a slow `hub` does not delay the other renewals
+                _ = start self.renewLease(dueService);
+            }
+        }
+    }
+
+    isolated function renewLease(HttpService httpService) {
+        error? result = httpService.initiateSubscription();
+        if result is () {
+            return;
+        }
+        // a failed renewal is retried with a backoff, as long as the current lease is still valid
+        if self.retryLeaseRenewal(httpService) {
+            log:printWarn("Subscription lease renewal failed, hence it will be retried", result);
+        } else {
+            log:printError("Subscription lease renewal failed, and the lease will expire without being renewed", 
+                            result);
+        }
+    }
+}
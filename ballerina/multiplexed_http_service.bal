@@ -0,0 +1,50 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/http;
+import ballerina/jballerina.java;
+
+# Routes the requests received for `/{prefix}/{subscriptionId}` to the `HttpService` of the subscription, which is
+# resolved from the service registry of the `websub:Listener`.
+isolated service class MultiplexedHttpService {
+    *http:Service;
+
+    isolated resource function post [string subscriptionId](http:Caller caller, http:Request request) returns Error? {
+        HttpService? httpService = self.retrieveHttpService(subscriptionId);
+        if httpService is () {
+            return respondWithNotFound(caller);
+        }
+        return httpService.processPost(caller, request);
+    }
+
+    isolated resource function get [string subscriptionId](http:Caller caller, http:Request request) returns Error? {
+        HttpService? httpService = self.retrieveHttpService(subscriptionId);
+        if httpService is () {
+            return respondWithNotFound(caller);
+        }
+        return httpService.processGet(caller, request);
+    }
+
+    isolated function retrieveHttpService(string subscriptionId) returns HttpService? = @java:Method {
+        'class: "io.ballerina.stdlib.websub.NativeWebSubListenerAdaptor"
+    } external;
+}
+
+isolated function respondWithNotFound(http:Caller caller) returns Error? {
+    http:Response response = new;
+    response.statusCode = http:STATUS_NOT_FOUND;
+    return respondToRequest(caller, response);
+}
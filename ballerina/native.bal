@@ -15,17 +15,96 @@
 // under the License.
 
 import ballerina/http;
+import ballerina/io;
 import ballerina/jballerina.java;
 
 isolated class HttpToWebsubAdaptor {
-    isolated function init(SubscriberService serviceObj) {
-        externInit(self, serviceObj);
+    isolated function init(SubscriberService serviceObj, SubscriberServiceConfiguration serviceConfig) returns error? {
+        check externInit(self, serviceObj, serviceConfig);
     }
 
     isolated function getServiceMethodNames() returns string[] = @java:Method {
         'class: "io.ballerina.stdlib.websub.NativeHttpToWebsubAdaptor"
     } external;
 
+    isolated function processEventNotification(HttpService httpService, http:Caller caller, http:Request request,
+                                               http:Response response, string secretKey,
+                                               string? orderingKey) returns boolean|error = @java:Method {
+        'class: "io.ballerina.stdlib.websub.NativeHttpToWebsubAdaptor"
+    } external;
+
+    isolated function enqueueEventNotification(ContentDistributionMessage msg, http:Request request,
+                                               string? orderingKey, map<string|string[]> headers,
+                                               byte[] payload) returns boolean|error = @java:Method {
+        'class: "io.ballerina.stdlib.websub.NativeHttpToWebsubAdaptor"
+    } external;
+
+    isolated function isDuplicateDelivery(string deliveryId) returns boolean = @java:Method {
+        'class: "io.ballerina.stdlib.websub.NativeHttpToWebsubAdaptor"
+    } external;
+
+    isolated function retainDelivery(ContentDistributionMessage msg, string deliveryId) = @java:Method {
+        'class: "io.ballerina.stdlib.websub.NativeHttpToWebsubAdaptor"
+    } external;
+
+    isolated function forgetDelivery(string deliveryId) = @java:Method {
+        'class: "io.ballerina.stdlib.websub.NativeHttpToWebsubAdaptor"
+    } external;
+
+    isolated function isDuplicateContent(ContentDistributionMessage msg, string topic, 
+                                         byte[] payload) returns boolean = @java:Method {
+        'class: "io.ballerina.stdlib.websub.NativeHttpToWebsubAdaptor"
+    } external;
+
+    isolated function forgetEventNotification(ContentDistributionMessage msg) = @java:Method {
+        'class: "io.ballerina.stdlib.websub.NativeHttpToWebsubAdaptor"
+    } external;
+
+    isolated function getDeduplicationStats() returns DeduplicationStats = @java:Method {
+        'class: "io.ballerina.stdlib.websub.NativeHttpToWebsubAdaptor"
+    } external;
+
+    isolated function isReadOnlyParam(string methodName) returns boolean = @java:Method {
+        'class: "io.ballerina.stdlib.websub.NativeHttpToWebsubAdaptor"
+    } external;
+
+    isolated function isReadOnlyEventNotification() returns boolean = @java:Method {
+        'class: "io.ballerina.stdlib.websub.NativeHttpToWebsubAdaptor"
+    } external;
+
+    isolated function getBoundContentType() returns typedesc<anydata>? = @java:Method {
+        'class: "io.ballerina.stdlib.websub.NativeHttpToWebsubAdaptor"
+    } external;
+
+    isolated function createBoundEventNotification(map<string|string[]> headers, string contentType,
+                                                   anydata content) returns ContentDistributionMessage = @java:Method {
+        'class: "io.ballerina.stdlib.websub.NativeHttpToWebsubAdaptor"
+    } external;
+
+    isolated function takeQueuedEventNotification() returns ContentDistributionMessage? = @java:Method {
+        'class: "io.ballerina.stdlib.websub.NativeHttpToWebsubAdaptor"
+    } external;
+
+    isolated function completeQueuedEventNotification(ContentDistributionMessage msg) returns error? = @java:Method {
+        'class: "io.ballerina.stdlib.websub.NativeHttpToWebsubAdaptor"
+    } external;
+
+    isolated function pollSpooledEventNotification() returns SpooledEventNotification? = @java:Method {
+        'class: "io.ballerina.stdlib.websub.NativeHttpToWebsubAdaptor"
+    } external;
+
+    isolated function commitSpooledEventNotification(int offset) returns error? = @java:Method {
+        'class: "io.ballerina.stdlib.websub.NativeHttpToWebsubAdaptor"
+    } external;
+
+    isolated function drainQueuedEventNotifications(decimal timeout) returns boolean = @java:Method {
+        'class: "io.ballerina.stdlib.websub.NativeHttpToWebsubAdaptor"
+    } external;
+
+    isolated function getQueuedEventNotificationCount() returns int = @java:Method {
+        'class: "io.ballerina.stdlib.websub.NativeHttpToWebsubAdaptor"
+    } external;
+
     isolated function callOnSubscriptionVerificationMethod(SubscriptionVerification msg)
                                     returns SubscriptionVerificationSuccess|SubscriptionVerificationError|error = @java:Method {
         'class: "io.ballerina.stdlib.websub.NativeHttpToWebsubAdaptor"
@@ -46,16 +125,101 @@ isolated class HttpToWebsubAdaptor {
         'class: "io.ballerina.stdlib.websub.NativeHttpToWebsubAdaptor"
     } external;
 
-    isolated function callOnEventNotificationMethod(ContentDistributionMessage msg, http:Request request)
+    isolated function callOnEventNotificationMethod(ContentDistributionMessage msg, http:Request? request, 
+                                                    string? topic = ())
+                                    returns Acknowledgement|SubscriptionDeletedError|error? = @java:Method {
+        'class: "io.ballerina.stdlib.websub.NativeHttpToWebsubAdaptor"
+    } external;
+
+    isolated function isTopicRouted() returns boolean = @java:Method {
+        'class: "io.ballerina.stdlib.websub.NativeHttpToWebsubAdaptor"
+    } external;
+
+    isolated function callOnEventNotificationBatchMethod(ContentDistributionMessage msg, http:Request? request)
                                     returns Acknowledgement|SubscriptionDeletedError|error? = @java:Method {
         'class: "io.ballerina.stdlib.websub.NativeHttpToWebsubAdaptor"
     } external;
 }
 
-isolated function externInit(HttpToWebsubAdaptor adaptor, SubscriberService serviceObj) = @java:Method {
+isolated function externInit(HttpToWebsubAdaptor adaptor, SubscriberService serviceObj,
+                             SubscriberServiceConfiguration serviceConfig) returns error? = @java:Method {
+    'class: "io.ballerina.stdlib.websub.NativeHttpToWebsubAdaptor"
+} external;
+
+isolated function retrieveHttpRequest(ContentDistributionMessage msg) returns http:Request? = @java:Method {
+    'class: "io.ballerina.stdlib.websub.NativeHttpToWebsubAdaptor"
+} external;
+
+isolated function restoreQueuedContent(ContentDistributionMessage msg, boolean lazyContent) returns error? = @java:Method {
+    'class: "io.ballerina.stdlib.websub.NativeHttpToWebsubAdaptor"
+} external;
+
+isolated function resolveContentType(string contentType) returns readonly & ContentTypeDescriptor = @java:Method {
+    'class: "io.ballerina.stdlib.websub.NativeHttpToWebsubAdaptor"
+} external;
+
+isolated function resolveTopic(string[] linkHeaders) returns string = @java:Method {
+    'class: "io.ballerina.stdlib.websub.NativeHttpToWebsubAdaptor"
+} external;
+
+isolated function retrieveSnapshotHeaders(ContentDistributionMessage msg, string headerName) returns string[]? = @java:Method {
+    'class: "io.ballerina.stdlib.websub.NativeHttpToWebsubAdaptor"
+} external;
+
+isolated function attachHeaderSnapshot(ContentDistributionMessage msg, map<string|string[]> headers) = @java:Method {
+    'class: "io.ballerina.stdlib.websub.NativeHttpToWebsubAdaptor"
+} external;
+
+isolated function attachLazyContent(ContentDistributionMessage msg, string? charset, 
+                                   string? contentEncoding, int maxInflatedSize) = @java:Method {
+    'class: "io.ballerina.stdlib.websub.NativeHttpToWebsubAdaptor"
+} external;
+
+isolated function parseContent(byte[] payload, string contentType, string? charset, string? contentEncoding,
+                               int maxInflatedSize) 
+        returns map<string|string[]>|json|xml|string|byte[]|Error = @java:Method {
+    'class: "io.ballerina.stdlib.websub.NativeHttpToWebsubAdaptor"
+} external;
+
+isolated function createReadOnlyEventNotification(map<string|string[]> headers, string contentType,
+                                                  map<string|string[]>|json|xml|string|byte[] content)
+                                                  returns readonly & ContentDistributionMessage = @java:Method {
+    'class: "io.ballerina.stdlib.websub.NativeHttpToWebsubAdaptor"
+} external;
+
+isolated function inflateContent(byte[] payload, string? contentEncoding, 
+                                 int maxInflatedSize) returns byte[]|error = @java:Method {
+    'class: "io.ballerina.stdlib.websub.NativeHttpToWebsubAdaptor"
+} external;
+
+isolated function retrieveContent(ContentDistributionMessage msg) 
+        returns map<string|string[]>|json|xml|string|byte[]|Error = @java:Method {
+    name: "getContent",
+    'class: "io.ballerina.stdlib.websub.NativeHttpToWebsubAdaptor"
+} external;
+
+isolated function attachContentStream(ContentDistributionMessage msg, stream<byte[], io:Error?> contentStream) = @java:Method {
+    'class: "io.ballerina.stdlib.websub.NativeHttpToWebsubAdaptor"
+} external;
+
+isolated function retrieveContentStream(ContentDistributionMessage msg) returns stream<byte[], io:Error?>? = @java:Method {
+    'class: "io.ballerina.stdlib.websub.NativeHttpToWebsubAdaptor"
+} external;
+
+isolated function verifyContentSignature(string signature, string secret, byte[] payload, 
+                                        HttpToWebsubAdaptor? adaptor = ()) returns boolean|Error = @java:Method {
+    'class: "io.ballerina.stdlib.websub.NativeHttpToWebsubAdaptor"
+} external;
+
+isolated function createContentVerifier(string signature, string secret, 
+                                       HttpToWebsubAdaptor? adaptor = ()) returns handle|Error = @java:Method {
+    'class: "io.ballerina.stdlib.websub.NativeHttpToWebsubAdaptor"
+} external;
+
+isolated function updateContentVerifier(handle verifier, byte[] chunk) = @java:Method {
     'class: "io.ballerina.stdlib.websub.NativeHttpToWebsubAdaptor"
 } external;
 
-isolated function retrieveHttpRequest(ContentDistributionMessage msg) returns http:Request = @java:Method {
+isolated function isContentVerified(handle verifier) returns boolean = @java:Method {
     'class: "io.ballerina.stdlib.websub.NativeHttpToWebsubAdaptor"
 } external;
@@ -14,19 +14,22 @@
 // specific language governing permissions and limitations
 // under the License.
 
+import ballerina/data.jsondata;
 import ballerina/http;
-import ballerina/mime;
+import ballerina/io;
 import ballerina/log;
-import ballerina/url;
+import ballerina/mime;
 
 isolated function processSubscriptionVerification(http:Caller caller, http:Response response, 
                                                   RequestQueryParams params, HttpToWebsubAdaptor adaptor) {
-    SubscriptionVerification message = {
-        hubMode: <string>params?.hubMode,
-        hubTopic: <string>params?.hubTopic,
-        hubChallenge: <string>params?.hubChallenge,
-        hubLeaseSeconds: params?.hubLeaseSeconds
-    };
+    // when the remote method accepts a readonly message, it is constructed as immutable instead of being frozen
+    SubscriptionVerification message = adaptor.isReadOnlyParam("onSubscriptionVerification")
+        ? retrieveReadOnlySubscriptionVerification(params) : {
+            hubMode: <string>params?.hubMode,
+            hubTopic: <string>params?.hubTopic,
+            hubChallenge: <string>params?.hubChallenge,
+            hubLeaseSeconds: params?.hubLeaseSeconds
+        };
 
     SubscriptionVerificationSuccess|error result = adaptor.callOnSubscriptionVerificationMethod(message);
     if result is SubscriptionVerificationError {
@@ -44,12 +47,14 @@ isolated function processSubscriptionVerification(http:Caller caller, http:Respo
 
 isolated function processUnsubscriptionVerification(http:Caller caller, http:Response response, 
                                                     RequestQueryParams params, HttpToWebsubAdaptor adaptor) {
-    UnsubscriptionVerification message = {
-        hubMode: <string>params?.hubMode,
-        hubTopic: <string>params?.hubTopic,
-        hubChallenge: <string>params?.hubChallenge,
-        hubLeaseSeconds: params?.hubLeaseSeconds
-    };
+    // when the remote method accepts a readonly message, it is constructed as immutable instead of being frozen
+    UnsubscriptionVerification message = adaptor.isReadOnlyParam("onUnsubscriptionVerification")
+        ? retrieveReadOnlyUnsubscriptionVerification(params) : {
+            hubMode: <string>params?.hubMode,
+            hubTopic: <string>params?.hubTopic,
+            hubChallenge: <string>params?.hubChallenge,
+            hubLeaseSeconds: params?.hubLeaseSeconds
+        };
 
     UnsubscriptionVerificationSuccess|error result = adaptor.callOnUnsubscriptionVerificationMethod(message);
     if result is UnsubscriptionVerificationError {
@@ -65,6 +70,26 @@ isolated function processUnsubscriptionVerification(http:Caller caller, http:Res
     }
 }
 
+isolated function retrieveReadOnlySubscriptionVerification(RequestQueryParams params)
+                                                            returns readonly & SubscriptionVerification {
+    return {
+        hubMode: <string>params?.hubMode,
+        hubTopic: <string>params?.hubTopic,
+        hubChallenge: <string>params?.hubChallenge,
+        hubLeaseSeconds: params?.hubLeaseSeconds
+    };
+}
+
+isolated function retrieveReadOnlyUnsubscriptionVerification(RequestQueryParams params)
+                                                              returns readonly & UnsubscriptionVerification {
+    return {
+        hubMode: <string>params?.hubMode,
+        hubTopic: <string>params?.hubTopic,
+        hubChallenge: <string>params?.hubChallenge,
+        hubLeaseSeconds: params?.hubLeaseSeconds
+    };
+}
+
 isolated function processSubscriptionDenial(http:Caller caller, http:Response response,
                                             RequestQueryParams params, HttpToWebsubAdaptor adaptor) {
     var reason = params?.hubReason is () ? "" : <string>params?.hubReason;
@@ -93,79 +118,264 @@ isolated function processHubError(http:Caller caller, http:Response response,
 
 isolated function processEventNotification(http:Caller caller, http:Request request, 
                                            http:Response response, HttpToWebsubAdaptor adaptor,
-                                           string secretKey) returns error? {
-    string payload = check request.getTextPayload();
-    boolean isVerifiedContent = check verifyContent(request, secretKey, payload);
-    if !isVerifiedContent {
+                                           string secretKey, boolean batchedDelivery = false,
+                                           boolean lazyContent = false,
+                                           ContentStreamingConfig? streamingConfig = (),
+                                           string[]? headerAllowlist = (),
+                                           DeduplicationConfig? deduplicationConfig = (),
+                                           int maxInflatedContentSize = DEFAULT_MAX_INFLATED_CONTENT_SIZE,
+                                           boolean isHeaderSnapshotRequired = false)
+                                           returns error? {
+    // when a delivery-id is available, the duplicates are detected before the content is parsed
+    string? deliveryId = deduplicationConfig is DeduplicationConfig
+        ? retrieveDeliveryId(request, deduplicationConfig) : ();
+    ContentDistributionMessage? message = check retrieveContentDistributionMessage(request, response, secretKey,
+                                                                                   lazyContent, streamingConfig,
+                                                                                   headerAllowlist, adaptor,
+                                                                                   maxInflatedContentSize, deliveryId);
+    if message is () {
+        return;
+    }
+    if deduplicationConfig is DeduplicationConfig && deliveryId is ()
+            && check isDuplicateEventNotification(adaptor, message, request) {
+        // the duplicate is acknowledged to the `hub` without delivering it again
+        updateResponseBody(response, ACKNOWLEDGEMENT["body"], ACKNOWLEDGEMENT["headers"]);
         return;
     }
+    if isHeaderSnapshotRequired {
+        // the message headers are allowlisted, hence all the request headers are snapshotted before it is released
+        attachHeaderSnapshot(message, retrieveRequestHeaders(request));
+    }
+    deliverEventNotification(response, message, request, adaptor, batchedDelivery);
+}
 
-    string contentTypeValue = request.getContentType();
-    http:HeaderValue[] values = check http:parseHeader(contentTypeValue);                                          
-    string contentType = values[0].value;
-    map<string|string[]> headers = retrieveRequestHeaders(request);
-    ContentDistributionMessage? message = ();
+isolated function retrieveDeliveryId(http:Request request, DeduplicationConfig config) returns string? {
+    string? deliveryIdHeader = config?.deliveryIdHeader;
+    if deliveryIdHeader is () {
+        return;
+    }
+    string|http:HeaderNotFoundError deliveryId = request.getHeader(deliveryIdHeader);
+    return deliveryId is string ? deliveryId : ();
+}
 
-    match contentType {
-        mime:APPLICATION_JSON => {
-            message = {
-                headers: headers,
-                contentType: contentType,
-                content: check request.getJsonPayload()
-            };
-        }
-        mime:APPLICATION_XML => {
-            message = {
-                headers: headers,
-                contentType: contentType,
-                content: check request.getXmlPayload()
-            };  
-        }
-        mime:TEXT_PLAIN => {
-            message = {
-                headers: headers,
-                contentType: contentType,
-                content: check request.getTextPayload()
-            };              
-        }
-        mime:APPLICATION_OCTET_STREAM => {
-            message = {
-                headers: headers,
-                contentType: contentType,
-                content: check request.getBinaryPayload()
-            };  
-        }
-        mime:APPLICATION_FORM_URLENCODED => {
-            map<string> formContent = check request.getFormParams();
-            map<string> decodedContent = {};
-            foreach var ['key, value] in formContent.entries() {
-                decodedContent['key] = check url:decode(value, "UTF-8");
+isolated function isDuplicateEventNotification(HttpToWebsubAdaptor adaptor, ContentDistributionMessage message,
+                                               http:Request request) returns boolean|error {
+    if retrieveContentStream(message) !is () {
+        // a streamed content could not be hashed without consuming it
+        return false;
+    }
+    return adaptor.isDuplicateContent(message, retrieveTopicFromLinkHeader(request), check request.getBinaryPayload());
+}
+
+isolated function retrieveContentDistributionMessage(http:Request request, http:Response response, string secretKey,
+                                                     boolean lazyContent = false,
+                                                     ContentStreamingConfig? streamingConfig = (),
+                                                     string[]? headerAllowlist = (),
+                                                     HttpToWebsubAdaptor? adaptor = (),
+                                                     int maxInflatedContentSize = DEFAULT_MAX_INFLATED_CONTENT_SIZE,
+                                                     string? deliveryId = ())
+                                                     returns ContentDistributionMessage|error? {
+    // when `onEventNotification` declares its own content type, the content is bound to it instead of being streamed
+    typedesc<anydata>? boundContentType = adaptor is () ? () : adaptor.getBoundContentType();
+    if streamingConfig is ContentStreamingConfig && boundContentType is () {
+        string? streamedContentType = retrieveStreamedContentType(request, streamingConfig);
+        if streamedContentType is string {
+            // a streamed content is verified while it is consumed, and it is not parsed before the delivery
+            ContentDistributionMessage? message = check retrieveStreamedContentDistributionMessage(
+                request, secretKey, streamedContentType, streamingConfig.chunkSize, headerAllowlist, adaptor);
+            if message is () || deliveryId is () || adaptor is () {
+                return message;
+            }
+            if adaptor.isDuplicateDelivery(deliveryId) {
+                updateResponseBody(response, ACKNOWLEDGEMENT["body"], ACKNOWLEDGEMENT["headers"]);
+                return;
             }
-            message = {
-                headers: headers,
-                contentType: contentType,
-                content: decodedContent
-            }; 
+            adaptor.retainDelivery(message, deliveryId);
+            return message;
         }
-        _ => {
-            log:printError(string `Unrecognized content-type [${contentType}] found`);
+    }
+    // the payload is read only once, and the same bytes are used for both the verification and the parsing
+    byte[] payload = check request.getBinaryPayload();
+    boolean isVerifiedContent = check verifyContent(request, secretKey, payload, adaptor);
+    if !isVerifiedContent {
+        return;
+    }
+    if deliveryId is () || adaptor is () {
+        return parseContentDistributionMessage(request, response, payload, boundContentType, lazyContent,
+                                               headerAllowlist, adaptor, maxInflatedContentSize);
+    }
+    // a duplicate is detected once its signature is verified, hence its content is acknowledged without parsing it
+    if adaptor.isDuplicateDelivery(deliveryId) {
+        updateResponseBody(response, ACKNOWLEDGEMENT["body"], ACKNOWLEDGEMENT["headers"]);
+        return;
+    }
+    ContentDistributionMessage|error? message = parseContentDistributionMessage(request, response, payload,
+                                                                                boundContentType, lazyContent,
+                                                                                headerAllowlist, adaptor,
+                                                                                maxInflatedContentSize);
+    if message is ContentDistributionMessage {
+        adaptor.retainDelivery(message, deliveryId);
+    } else {
+        // the content is rejected, hence it should be delivered when the `hub` retries it
+        adaptor.forgetDelivery(deliveryId);
+    }
+    return message;
+}
+
+isolated function parseContentDistributionMessage(http:Request request, http:Response response, byte[] payload,
+                                                  typedesc<anydata>? boundContentType, boolean lazyContent,
+                                                  string[]? headerAllowlist, HttpToWebsubAdaptor? adaptor,
+                                                  int maxInflatedContentSize)
+                                                  returns ContentDistributionMessage|error? {
+    // the `Content-Type` header values are resolved and interned natively, hence no header records are allocated
+    ContentTypeDescriptor contentType = resolveContentType(request.getContentType());
+    if !contentType.supported {
+        log:printError(string `Unrecognized content-type [${contentType.mediaType}] found`);
+        response.statusCode = http:STATUS_BAD_REQUEST;
+        return;
+    }
+    // the signature is verified over the transmitted bytes, and a compressed content is inflated while it is parsed
+    string|Error? contentEncoding = retrieveContentEncoding(request);
+    if contentEncoding is Error {
+        log:printError(contentEncoding.message());
+        response.statusCode = http:STATUS_UNSUPPORTED_MEDIA_TYPE;
+        return;
+    }
+    if adaptor is HttpToWebsubAdaptor && boundContentType is typedesc<anydata> {
+        return bindContentDistributionMessage(request, response, adaptor, boundContentType, payload,
+                                              contentType.mediaType, contentEncoding, headerAllowlist,
+                                              maxInflatedContentSize);
+    }
+    string? charset = contentType.charset;
+    if !lazyContent && adaptor is HttpToWebsubAdaptor && adaptor.isReadOnlyEventNotification() {
+        // the message is constructed as immutable, hence it is not traversed again to be frozen before the dispatch
+        map<string|string[]>|json|xml|string|byte[]|error readOnlyContent = parseReadOnlyContent(
+            payload, contentType.mediaType, charset, contentEncoding, maxInflatedContentSize);
+        if readOnlyContent is ContentTooLargeError {
+            log:printError(readOnlyContent.message());
+            response.statusCode = http:STATUS_PAYLOAD_TOO_LARGE;
+            return;
         }
+        return createReadOnlyEventNotification(retrieveRequestHeaders(request, headerAllowlist), contentType.mediaType,
+                                               check readOnlyContent);
     }
+    map<string|string[]>|json|xml|string|byte[]|error content = lazyContent ? payload
+        : parseContent(payload, contentType.mediaType, charset, contentEncoding, maxInflatedContentSize);
+    if content is ContentTooLargeError {
+        // a compressed content is not inflated beyond the configured size, hence it is rejected without the delivery
+        log:printError(content.message());
+        response.statusCode = http:STATUS_PAYLOAD_TOO_LARGE;
+        return;
+    }
+    ContentDistributionMessage message = {
+        headers: retrieveRequestHeaders(request, headerAllowlist),
+        contentType: contentType.mediaType,
+        content: check content
+    };
+    if lazyContent {
+        // the raw payload is parsed only when the content is accessed via `websub:getContent`
+        attachLazyContent(message, charset, contentEncoding, maxInflatedContentSize);
+    }
+    return message;
+}
 
-    if message is () {
+isolated function parseReadOnlyContent(byte[] payload, string contentType, string? charset, string? contentEncoding,
+                                       int maxInflatedContentSize)
+                                       returns map<string|string[]>|json|xml|string|byte[]|error {
+    if contentType == mime:APPLICATION_JSON && (charset is () || charset.equalsIgnoreCaseAscii("utf-8")) {
+        // the `json` values are created as immutable while they are parsed
+        ReadOnlyJson content = check jsondata:parseBytes(check inflateContent(payload, contentEncoding,
+                                                                              maxInflatedContentSize), {},
+                                                         ReadOnlyJson);
+        return content;
+    }
+    // the other contents are frozen when the message is created, where the `xml` content is the only graph to traverse
+    return parseContent(payload, contentType, charset, contentEncoding, maxInflatedContentSize);
+}
+
+isolated function bindContentDistributionMessage(http:Request request, http:Response response,
+                                                 HttpToWebsubAdaptor adaptor, typedesc<anydata> boundContentType,
+                                                 byte[] payload, string contentType, string? contentEncoding,
+                                                 string[]? headerAllowlist, int maxInflatedContentSize)
+                                                 returns ContentDistributionMessage|error? {
+    if contentType != mime:APPLICATION_JSON {
+        log:printError(string `Content-type [${contentType}] could not be bound to the declared content type`);
+        response.statusCode = http:STATUS_UNSUPPORTED_MEDIA_TYPE;
+        return;
+    }
+    // the content is deserialized straight from the payload, hence no intermediate `json` value is created
+    byte[]|error inflatedPayload = inflateContent(payload, contentEncoding, maxInflatedContentSize);
+    if inflatedPayload is ContentTooLargeError {
+        log:printError(inflatedPayload.message());
+        response.statusCode = http:STATUS_PAYLOAD_TOO_LARGE;
+        return;
+    }
+    anydata|error content = jsondata:parseBytes(check inflatedPayload, {}, boundContentType);
+    if content is error {
+        log:printError("Error occurred while binding the content to the declared content type", content);
         response.statusCode = http:STATUS_BAD_REQUEST;
         return;
+    }
+    return adaptor.createBoundEventNotification(retrieveRequestHeaders(request, headerAllowlist), contentType, content);
+}
+
+isolated function retrieveStreamedContentType(http:Request request, ContentStreamingConfig config) returns string? {
+    string contentType = resolveContentType(request.getContentType()).mediaType;
+    return config.contentTypes.indexOf(contentType) is int ? contentType : ();
+}
+
+isolated function retrieveStreamedContentDistributionMessage(http:Request request, string secretKey,
+                                                             string contentType, int chunkSize,
+                                                             string[]? headerAllowlist,
+                                                             HttpToWebsubAdaptor? adaptor = ())
+                                                             returns ContentDistributionMessage|error? {
+    // the signature is validated upfront, and the content itself is verified while the stream is being consumed
+    handle? verifier = ();
+    if secretKey.trim().length() > 0 {
+        string|http:HeaderNotFoundError signature = request.getHeader(X_HUB_SIGNATURE);
+        if signature is http:HeaderNotFoundError || signature.trim().length() == 0 {
+            return;
+        }
+        verifier = check createContentVerifier(signature, secretKey, adaptor);
+    }
+    stream<byte[], io:Error?> byteStream = check request.getByteStream(chunkSize);
+    ContentDistributionMessage message = {
+        headers: retrieveRequestHeaders(request, headerAllowlist),
+        contentType: contentType,
+        content: []
+    };
+    if verifier is () {
+        attachContentStream(message, byteStream);
+    } else {
+        attachContentStream(message, new stream<byte[], io:Error?>(new VerifiedContentStream(byteStream, verifier)));
+    }
+    return message;
+}
+
+isolated function deliverEventNotification(http:Response response, ContentDistributionMessage message, 
+                                           http:Request? request, HttpToWebsubAdaptor adaptor,
+                                           boolean batchedDelivery) {
+    Acknowledgement|error? result;
+    if batchedDelivery {
+        // when `onEventNotificationBatch` is implemented, the message is delivered as a part of a batch
+        result = adaptor.callOnEventNotificationBatchMethod(message, request);
     } else {
-        Acknowledgement|error? result = adaptor.callOnEventNotificationMethod(message, request);
-        if result is Acknowledgement {
-            updateResponseBody(response, result["body"], result["headers"]);
-        } else if result is SubscriptionDeletedError {
-            response.statusCode = http:STATUS_GONE;
-            var errorDetails = result.detail();
-            updateResponseBody(response, errorDetails["body"], errorDetails["headers"], result.message());
-        } else {
-            updateResponseBody(response, ACKNOWLEDGEMENT["body"], ACKNOWLEDGEMENT["headers"]); 
+        // the topic is resolved only when the content is dispatched based on the topic routes
+        string? topic = ();
+        if adaptor.isTopicRouted() {
+            // the original request of a message which is queued in the payload storage is already released
+            topic = request is http:Request ? retrieveTopicFromLinkHeader(request) 
+                : retrieveTopicFromHeaderSnapshot(message);
         }
-        return;
+        result = adaptor.callOnEventNotificationMethod(message, request, topic);
+    }
+    if result is Acknowledgement {
+        updateResponseBody(response, result["body"], result["headers"]);
+    } else if result is SubscriptionDeletedError {
+        response.statusCode = http:STATUS_GONE;
+        var errorDetails = result.detail();
+        updateResponseBody(response, errorDetails["body"], errorDetails["headers"], result.message());
+    } else {
+        updateResponseBody(response, ACKNOWLEDGEMENT["body"], ACKNOWLEDGEMENT["headers"]); 
     }
 }
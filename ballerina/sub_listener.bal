@@ -27,6 +27,9 @@ public class Listener {
     private http:InferredListenerConfiguration listenerConfig;
     private int port;
     private decimal gracefulShutdownPeriod;
+    private string? multiplexingPrefix;
+    private LeaseRenewalScheduler? leaseRenewalScheduler;
+    private readonly & SubscriptionInitiationConfig subscriptionInitiation;
 
     # Initiliazes `websub:Listener` instance.
     # ```ballerina
@@ -51,8 +54,33 @@ public class Listener {
         self.listenerConfig = self.httpListener.getConfig();
         self.port = self.httpListener.getPort();
         self.gracefulShutdownPeriod = config.gracefulShutdownPeriod;
+        MultiplexingConfig? multiplexing = config?.multiplexing;
+        string? multiplexingPrefix = multiplexing is () ? () : retrieveCompleteServicePath(multiplexing.prefix);
+        self.multiplexingPrefix = multiplexingPrefix;
+        LeaseRenewalConfig? leaseRenewal = config?.leaseRenewal;
+        self.leaseRenewalScheduler = leaseRenewal is () ? () : new LeaseRenewalScheduler(leaseRenewal);
+        self.subscriptionInitiation = config.subscriptionInitiation.cloneReadOnly();
+        self.externInit();
+        if multiplexingPrefix is string {
+            // the subscriptions are served through a single http-service, hence the `http:Listener` is not
+            // changed when the services are attached or detached
+            MultiplexedHttpService multiplexedService = new;
+            self.externAttachMultiplexer(multiplexedService);
+            error? result = self.httpListener.attach(multiplexedService, multiplexingPrefix);
+            if result is error {
+                return error Error("Listener initialization failed", result);
+            }
+        }
     }
 
+    isolated function externInit() = @java:Method {
+        'class: "io.ballerina.stdlib.websub.NativeWebSubListenerAdaptor"
+    } external;
+
+    isolated function externAttachMultiplexer(MultiplexedHttpService multiplexedService) = @java:Method {
+        'class: "io.ballerina.stdlib.websub.NativeWebSubListenerAdaptor"
+    } external;
+
     # Attaches the provided `websub:SubscriberService` to the `websub:Listener`.
     # ```ballerina
     # check websubListenerEp.attach('service, "/subscriber");
@@ -93,17 +121,99 @@ public class Listener {
         }
     }
 
+    # Attaches the provided `websub:SubscriberService`s to the `websub:Listener` at once. Either all the services are
+    # attached or none of them is attached, and the attached services are registered with a single registry update.
+    # ```ballerina
+    # check websubListenerEp.attachAll([
+    #    {'service: firstService, name: "/first"},
+    #    {'service: secondService, name: "/second", config: {leaseSeconds: 36000}}
+    # ]);
+    # ```
+    # 
+    # + attachments - The `websub:SubscriberService`s to attach along with their paths and optional configurations
+    # + return - An `websub:Error`, if an error occurred during the service attaching process or else `()`
+    public isolated function attachAll(ServiceAttachment[] attachments) returns Error? {
+        ServiceRegistration[] registrations = [];
+        foreach ServiceAttachment attachment in attachments {
+            ServiceRegistration|error registration = self.prepareAttach(attachment);
+            if registration is error {
+                self.releaseHttpServices(registrations);
+                return error Error("Error occurred while attaching the services", registration);
+            }
+            registrations.push(registration);
+        }
+        error? result = self.externAttachAll(registrations);
+        if result is error {
+            self.releaseHttpServices(registrations);
+            return error Error("Error occurred while attaching the services", result);
+        }
+        foreach ServiceRegistration registration in registrations {
+            registration.httpService.startAsyncDelivery();
+        }
+    }
+
+    isolated function prepareAttach(ServiceAttachment attachment) returns ServiceRegistration|error {
+        SubscriberServiceConfiguration? serviceConfig = attachment?.config 
+            ?: retrieveSubscriberServiceAnnotations(attachment.'service);
+        if serviceConfig is () {
+            return error ListenerError("Could not find the required service-configurations");
+        }
+        return self.createServiceRegistration(attachment.'service, serviceConfig, attachment.name);
+    }
+
     isolated function executeAttach(SubscriberService 'service, SubscriberServiceConfiguration serviceConfig,
                                     string[]|string? name = ()) returns error? {
+        ServiceRegistration registration = check self.createServiceRegistration('service, serviceConfig, name);
+        error? result = self.externAttach(registration.servicePath, 'service, registration.httpService, serviceConfig);
+        if result is error {
+            self.releaseHttpServices([registration]);
+            return result;
+        }
+        registration.httpService.startAsyncDelivery();
+    }
+
+    isolated function releaseHttpServices(ServiceRegistration[] registrations) {
+        if self.multiplexingPrefix is string {
+            return;
+        }
+        // the services which are already attached to the `http:Listener` are released
+        foreach ServiceRegistration registration in registrations {
+            error? result = self.httpListener.detach(registration.httpService);
+            if result is error {
+                log:printWarn("Error occurred while releasing an attached service", result);
+            }
+        }
+    }
+
+    isolated function createServiceRegistration(SubscriberService 'service, 
+                                                SubscriberServiceConfiguration serviceConfig,
+                                                string[]|string? name) returns ServiceRegistration|error {
         boolean generateServicePath = shouldUseGeneratedServicePath(serviceConfig, name);
         string[]|string? servicePath = generateServicePath ? check self.retrieveGeneratedServicePath(serviceConfig): name;
         string completeSevicePath = retrieveCompleteServicePath(servicePath);
+        string? multiplexingPrefix = self.multiplexingPrefix;
+        string callbackPath = completeSevicePath;
+        if multiplexingPrefix is string {
+            // in the multiplexed mode the service path is the subscription-id resolved by the multiplexed http-service
+            if completeSevicePath.length() == 0 || completeSevicePath.includes("/") {
+                return error ListenerError(
+                    string `Service path [${completeSevicePath}] should be a single path segment in the multiplexed mode`);
+            }
+            callbackPath = string `${multiplexingPrefix}/${completeSevicePath}`;
+        }
         string callback = constructCallbackUrl(serviceConfig, self.port, self.listenerConfig,
-                                                completeSevicePath, generateServicePath);
-        HttpToWebsubAdaptor adaptor = new ('service);
-        HttpService httpService = check new (adaptor, callback, serviceConfig?.secret);
-        check self.httpListener.attach(httpService, completeSevicePath);
-        self.externAttach(completeSevicePath, 'service, httpService, serviceConfig);
+                                                callbackPath, generateServicePath);
+        HttpToWebsubAdaptor adaptor = check new ('service, serviceConfig);
+        HttpService httpService = check new (adaptor, callback, serviceConfig, self.leaseRenewalScheduler);
+        if multiplexingPrefix is () {
+            check self.httpListener.attach(httpService, completeSevicePath);
+        }
+        return {
+            servicePath: completeSevicePath,
+            subscriberService: 'service,
+            httpService: httpService,
+            config: serviceConfig
+        };
     }
 
     isolated function retrieveGeneratedServicePath(SubscriberServiceConfiguration serviceConfig) returns string|Error {
@@ -119,7 +229,12 @@ public class Listener {
     }
 
     isolated function externAttach(string servicePath, SubscriberService subscriberService,
-                                    HttpService httpService, SubscriberServiceConfiguration config) = @java:Method {
+                                    HttpService httpService, SubscriberServiceConfiguration config)
+                                    returns error? = @java:Method {
+        'class: "io.ballerina.stdlib.websub.NativeWebSubListenerAdaptor"
+    } external;
+
+    isolated function externAttachAll(ServiceRegistration[] registrations) returns error? = @java:Method {
         'class: "io.ballerina.stdlib.websub.NativeWebSubListenerAdaptor"
     } external;
 
@@ -132,11 +247,18 @@ public class Listener {
     # + return - An `websub:Error`, if an error occurred during the service detaching process or else `()`
     public isolated function detach(SubscriberService 'service) returns Error? {
         HttpService? currentHttpService = self.detachHttpService('service);
-        if currentHttpService is HttpService {
-            error? result = self.httpListener.detach(currentHttpService);
-            if (result is error) {
-                return error Error("Error occurred while detaching the service", result);
-            }
+        if currentHttpService is () {
+            return;
+        }
+        self.cancelLeaseRenewals([currentHttpService]);
+        error? result = ();
+        if self.multiplexingPrefix is () {
+            result = self.httpListener.detach(currentHttpService);
+        }
+        // the already acknowledged content distribution messages are delivered before the service is released
+        self.drainAsyncDeliveries([currentHttpService], time:utcAddSeconds(time:utcNow(), self.gracefulShutdownPeriod));
+        if (result is error) {
+            return error Error("Error occurred while detaching the service", result);
         }
     }
 
@@ -144,6 +266,61 @@ public class Listener {
         'class: "io.ballerina.stdlib.websub.NativeWebSubListenerAdaptor"
     } external;
 
+    # Detaches the provided `websub:SubscriberService`s from the `websub:Listener` at once. The services are removed
+    # from the service registry with a single update, and the services which are not attached are ignored.
+    # ```ballerina
+    # check websubListenerEp.detachAll([firstService, secondService]);
+    # ```
+    # 
+    # + services - The `websub:SubscriberService` objects to be detached
+    # + return - An `websub:Error`, if an error occurred during the service detaching process or else `()`
+    public isolated function detachAll(SubscriberService[] services) returns Error? {
+        HttpService[]? detachedServices = self.detachHttpServices(services);
+        if detachedServices is () {
+            return;
+        }
+        self.cancelLeaseRenewals(detachedServices);
+        error? detachError = ();
+        if self.multiplexingPrefix is () {
+            // every service is detached from the `http:Listener`, even if one of them fails
+            foreach HttpService detachedService in detachedServices {
+                error? result = self.httpListener.detach(detachedService);
+                if result is error {
+                    detachError = result;
+                }
+            }
+        }
+        // the services share a single deadline to deliver the content distribution messages which are already
+        // acknowledged
+        self.drainAsyncDeliveries(detachedServices, time:utcAddSeconds(time:utcNow(), self.gracefulShutdownPeriod));
+        if detachError is error {
+            return error Error("Error occurred while detaching the services", detachError);
+        }
+    }
+
+    isolated function detachHttpServices(SubscriberService[] subscriberServices) returns HttpService[]? = @java:Method {
+        'class: "io.ballerina.stdlib.websub.NativeWebSubListenerAdaptor"
+    } external;
+
+    isolated function drainAsyncDeliveries(HttpService[] httpServices, time:Utc deadline) {
+        // every queue is closed even after the deadline has passed, so that no more messages are acknowledged, and
+        // the remaining messages are still delivered by the running workers
+        foreach HttpService httpService in httpServices {
+            decimal remainingPeriod = decimal:max(0d, time:utcDiffSeconds(deadline, time:utcNow()));
+            httpService.drainAsyncDelivery(remainingPeriod);
+        }
+    }
+
+    isolated function cancelLeaseRenewals(HttpService[] httpServices) {
+        LeaseRenewalScheduler? leaseRenewalScheduler = self.leaseRenewalScheduler;
+        if leaseRenewalScheduler is () {
+            return;
+        }
+        foreach HttpService httpService in httpServices {
+            leaseRenewalScheduler.cancelLeaseRenewal(httpService);
+        }
+    }
+
     # Starts the registered service programmatically..
     # ```ballerina
     # check websubListenerEp.'start();
@@ -155,22 +332,32 @@ public class Listener {
             log:printWarn("HTTPS is recommended but using HTTP");
         }
 
-        error? listenerError = self.httpListener.'start();
-        if (listenerError is error) {
-            return error Error("Error occurred while starting the service", listenerError);
-        }
-
         HttpService[]? attachedServices = self.retrieveAttachedServices();
         if attachedServices is HttpService[] {
+            // deliver the spooled content distribution messages before accepting the new ones
             foreach HttpService 'service in attachedServices {
-                error? result = 'service.initiateSubscription();
+                error? result = 'service.replaySpooledEventNotifications();
                 if result is error {
-                    string errorDetails = result.message();
-                    string errorMsg = string `Subscription initiation failed due to: ${errorDetails}`;
-                    return error SubscriptionInitiationError(errorMsg);
+                    return error Error("Error occurred while replaying the spooled content", result);
                 }
             }
         }
+
+        error? listenerError = self.httpListener.'start();
+        if (listenerError is error) {
+            return error Error("Error occurred while starting the service", listenerError);
+        }
+
+        LeaseRenewalScheduler? leaseRenewalScheduler = self.leaseRenewalScheduler;
+        if leaseRenewalScheduler is LeaseRenewalScheduler {
+            _ = start leaseRenewalScheduler.renewLeases();
+        }
+
+        if attachedServices is HttpService[] {
+            // the subscriptions are initiated concurrently, and the failures are reported once all of them complete
+            SubscriptionInitiator initiator = new (attachedServices, self.subscriptionInitiation);
+            check initiator.initiateSubscriptions();
+        }
     }
 
     # Stops the service listener gracefully. Already-accepted requests will be served before connection closure.
@@ -180,6 +367,9 @@ public class Listener {
     # 
     # + return - An `websub:Error`, if an error occurred during the listener stopping process or else `()`
     public isolated function gracefulStop() returns Error? {
+        self.stopLeaseRenewals();
+        // the unsubscription verification and the content delivery share the same graceful shutdown period
+        time:Utc deadline = time:utcAddSeconds(time:utcNow(), self.gracefulShutdownPeriod);
         HttpService[]? attachedServices = self.retrieveAttachedServices();
         if attachedServices is HttpService[] {
             foreach HttpService 'service in attachedServices {
@@ -188,7 +378,9 @@ public class Listener {
                     log:printWarn("Unsubscription initiation failed", result);
                 }
             }
-            self.waitForVerification(attachedServices);
+            self.waitForVerification(attachedServices, deadline);
+            // deliver the already acknowledged content distribution messages before stopping the listener
+            self.drainAsyncDeliveries(attachedServices, deadline);
         }
 
         error? result = self.httpListener.gracefulStop();
@@ -197,15 +389,24 @@ public class Listener {
         }
     }
 
+    isolated function stopLeaseRenewals() {
+        LeaseRenewalScheduler? leaseRenewalScheduler = self.leaseRenewalScheduler;
+        if leaseRenewalScheduler is LeaseRenewalScheduler {
+            leaseRenewalScheduler.closeLeaseRenewalScheduler();
+        }
+    }
+
     isolated function retrieveAttachedServices() returns HttpService[]? = @java:Method {
         'class: "io.ballerina.stdlib.websub.NativeWebSubListenerAdaptor"
     } external;
 
-    isolated function waitForVerification(HttpService[] availableServices) {
-        time:Utc timeout = time:utcAddSeconds(time:utcNow(), self.gracefulShutdownPeriod);
+    isolated function waitForVerification(HttpService[] availableServices, time:Utc deadline) {
         // wait until verification for all the subscribers are completed or verification time-out expires
-        while !self.isVerificationCompleted(availableServices) && time:utcDiffSeconds(timeout, time:utcNow()) > 0D {
-            runtime:sleep(2);
+        decimal remainingPeriod = time:utcDiffSeconds(deadline, time:utcNow());
+        while !self.isVerificationCompleted(availableServices) && remainingPeriod > 0D {
+            // the wait does not overrun the deadline, since the same deadline is used to drain the content delivery
+            runtime:sleep(decimal:min(2, remainingPeriod));
+            remainingPeriod = time:utcDiffSeconds(deadline, time:utcNow());
         }
     }
 
@@ -214,6 +415,42 @@ public class Listener {
                 .reduce(isolated function (boolean v1, HttpService s1) returns boolean => v1 && s1.isUnsubscriptionVerified(), true);
     }
 
+    # Retrieves the number of content distribution messages which are acknowledged to the `hub`, but not yet delivered
+    # to the attached `websub:SubscriberService`s configured with asynchronous content delivery.
+    # ```ballerina
+    # int pendingDeliveries = websubListenerEp.getPendingDeliveryCount();
+    # ```
+    # 
+    # + return - The number of pending content deliveries
+    public isolated function getPendingDeliveryCount() returns int {
+        HttpService[]? attachedServices = self.retrieveAttachedServices();
+        if attachedServices is () {
+            return 0;
+        }
+        return int:sum(...attachedServices.map(s => s.getPendingDeliveryCount()));
+    }
+
+    # Retrieves the statistics of the duplicate-delivery suppression of the attached `websub:SubscriberService`s
+    # configured with `deduplicationConfig`.
+    # ```ballerina
+    # websub:DeduplicationStats stats = websubListenerEp.getDeduplicationStats();
+    # ```
+    # 
+    # + return - The number of suppressed duplicate deliveries and the number of unique deliveries
+    public isolated function getDeduplicationStats() returns DeduplicationStats {
+        DeduplicationStats stats = {hits: 0, misses: 0};
+        HttpService[]? attachedServices = self.retrieveAttachedServices();
+        if attachedServices is () {
+            return stats;
+        }
+        foreach HttpService attachedService in attachedServices {
+            DeduplicationStats serviceStats = attachedService.getDeduplicationStats();
+            stats.hits += serviceStats.hits;
+            stats.misses += serviceStats.misses;
+        }
+        return stats;
+    }
+
     # Stops the service listener immediately.
     # ```ballerina
     # check websubListenerEp.immediateStop();
@@ -221,6 +458,7 @@ public class Listener {
     # 
     # + return - An `websub:Error`, if an error occurred during the listener stopping process or else `()`
     public isolated function immediateStop() returns Error? {
+        self.stopLeaseRenewals();
         error? result = self.httpListener.immediateStop();
         if (result is error) {
             return error Error("Error occurred while stopping the service", result);
@@ -28,4 +28,7 @@ public type SubscriberService distinct service object {
 //  remote function onEventNotification(ContentDistributionMessage event) 
 //                   returns Acknowledgement|SubscriptionDeletedError|error?;
 
+//  remote function onEventNotificationBatch(ContentDistributionMessage[] events)
+//                   returns Acknowledgement|SubscriptionDeletedError|error?;
+
 };
@@ -0,0 +1,85 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+import ballerina/log;
+
+# Initiates the subscriptions of the services attached to a `websub:Listener` concurrently. The failures of the
+# individual services are collected, so that a failure does not prevent the subscriptions of the other services.
+isolated class SubscriptionInitiator {
+    private final int parallelism;
+    // the callback URL and the error message of the failed subscriptions
+    private [string, string][] failures = [];
+
+    isolated function init(HttpService[] httpServices, SubscriptionInitiationConfig config) {
+        self.parallelism = int:max(1, int:min(config.parallelism, httpServices.length()));
+        self.initSubscriptionInitiator(httpServices, config?.requestsPerSecond);
+    }
+
+    isolated function initSubscriptionInitiator(HttpService[] httpServices, decimal? requestsPerSecond) = @java:Method {
+        'class: "io.ballerina.stdlib.websub.NativeWebSubListenerAdaptor"
+    } external;
+
+    isolated function takeNextService() returns HttpService? = @java:Method {
+        'class: "io.ballerina.stdlib.websub.NativeWebSubListenerAdaptor"
+    } external;
+
+    # Waits until a subscription request could be sent to the `hub` without exceeding the configured rate.
+    #
+    # + hub - The URL of the `hub`
+    isolated function acquireHubPermit(string hub) = @java:Method {
+        'class: "io.ballerina.stdlib.websub.NativeWebSubListenerAdaptor"
+    } external;
+
+    isolated function initiateSubscriptions() returns SubscriptionInitiationError? {
+        future<()>[] workers = [];
+        foreach int _ in 0 ..< self.parallelism {
+            workers.push(start self.initiateNextSubscriptions());
+        }
+        foreach future<()> worker in workers {
+            wait worker;
+        }
+        [string, string][] failures;
+        lock {
+            failures = self.failures.clone();
+        }
+        if failures.length() == 1 {
+            return error SubscriptionInitiationError(string `Subscription initiation failed due to: ${failures[0][1]}`);
+        }
+        if failures.length() > 1 {
+            string errorDetails = string:'join(", ", ...failures.map(f => string `Callback[${f[0]}]: ${f[1]}`));
+            return error SubscriptionInitiationError(
+                string `Subscription initiation failed for ${failures.length()} services due to: ${errorDetails}`);
+        }
+    }
+
+    isolated function initiateNextSubscriptions() {
+        while true {
+            HttpService? httpService = self.takeNextService();
+            if httpService is () {
+                return;
+            }
+            error? result = httpService.initiateSubscription(self);
+            if result is error {
+                string callback = httpService.getCallback();
+                log:printError("Subscription initiation failed", result, callback = callback);
+                lock {
+                    self.failures.push([callback, result.message()]);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,120 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/http;
+import ballerina/lang.runtime;
+import ballerina/test;
+
+isolated int asyncDeliveredCount = 0;
+
+isolated function retrieveAsyncDeliveredCount() returns int {
+    lock {
+        return asyncDeliveredCount;
+    }
+}
+
+listener Listener asyncDeliveryListener = new (ASYNC_DELIVERY_SUB_PORT);
+
+@SubscriberServiceConfig {
+    unsubscribeOnShutdown: false,
+    asyncDeliveryConfig: {
+        queueCapacity: 1,
+        workers: 1,
+        retryAfter: 3
+    }
+}
+service /subscriber on asyncDeliveryListener {
+    isolated remote function onEventNotification(ContentDistributionMessage event)
+                        returns Acknowledgement|SubscriptionDeletedError? {
+        runtime:sleep(2);
+        lock {
+            asyncDeliveredCount += 1;
+        }
+        return ACKNOWLEDGEMENT;
+    }
+}
+
+final http:Client asyncDeliverySubTestClient = check new (string `http://localhost:${ASYNC_DELIVERY_SUB_PORT}/subscriber`);
+
+@test:Config {
+    groups: ["asyncDeliverySubscriber"]
+}
+function testAsyncContentDeliveryAcknowledgement() returns error? {
+    // first message is taken by the worker, and the second message is kept in the queue
+    http:Response firstResponse = check asyncDeliverySubTestClient->post("/", {"id": 1});
+    test:assertEquals(firstResponse.statusCode, http:STATUS_ACCEPTED);
+    runtime:sleep(0.5);
+    http:Response secondResponse = check asyncDeliverySubTestClient->post("/", {"id": 2});
+    test:assertEquals(secondResponse.statusCode, http:STATUS_ACCEPTED);
+    test:assertEquals(retrieveAsyncDeliveredCount(), 0);
+    test:assertEquals(asyncDeliveryListener.getPendingDeliveryCount(), 2);
+
+    http:Response rejectedResponse = check asyncDeliverySubTestClient->post("/", {"id": 3});
+    test:assertEquals(rejectedResponse.statusCode, http:STATUS_SERVICE_UNAVAILABLE);
+    test:assertEquals(check rejectedResponse.getHeader(RETRY_AFTER), "3");
+}
+
+@test:Config {
+    groups: ["asyncDeliverySubscriber"],
+    dependsOn: [testAsyncContentDeliveryAcknowledgement]
+}
+function testAsyncContentDeliveryCompletion() returns error? {
+    runtime:sleep(5);
+    test:assertEquals(retrieveAsyncDeliveredCount(), 2);
+    test:assertEquals(asyncDeliveryListener.getPendingDeliveryCount(), 0);
+}
+
+isolated int detachedAsyncDeliveredCount = 0;
+
+isolated service class DetachedAsyncDeliveryService {
+    *SubscriberService;
+
+    isolated remote function onEventNotification(ContentDistributionMessage event)
+                        returns Acknowledgement|SubscriptionDeletedError? {
+        runtime:sleep(1);
+        lock {
+            detachedAsyncDeliveredCount += 1;
+        }
+        return ACKNOWLEDGEMENT;
+    }
+}
+
+@test:Config {
+    groups: ["asyncDeliverySubscriber"],
+    dependsOn: [testAsyncContentDeliveryCompletion]
+}
+function testAsyncContentDeliveryOnDetach() returns error? {
+    DetachedAsyncDeliveryService detachedService = new;
+    check asyncDeliveryListener.attachWithConfig(detachedService, {
+        unsubscribeOnShutdown: false,
+        asyncDeliveryConfig: {
+            queueCapacity: 2,
+            workers: 1
+        }
+    }, "detached");
+    http:Client detachedClientEp = check new (string `http://localhost:${ASYNC_DELIVERY_SUB_PORT}/detached`);
+    foreach int id in 1 ... 2 {
+        http:Response response = check detachedClientEp->post("/", {"id": id});
+        test:assertEquals(response.statusCode, http:STATUS_ACCEPTED);
+    }
+    // the acknowledged messages are delivered before the service is detached
+    check asyncDeliveryListener.detach(detachedService);
+    int deliveredCount;
+    lock {
+        deliveredCount = detachedAsyncDeliveredCount;
+    }
+    test:assertEquals(deliveredCount, 2);
+}
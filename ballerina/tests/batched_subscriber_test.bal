@@ -0,0 +1,69 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/http;
+import ballerina/test;
+
+isolated int[] receivedBatchSizes = [];
+
+isolated function retrieveReceivedBatchSizes() returns int[] {
+    lock {
+        return receivedBatchSizes.clone();
+    }
+}
+
+@SubscriberServiceConfig {
+    unsubscribeOnShutdown: false,
+    batchConfig: {
+        maxBatchSize: 3,
+        maxLingerTime: 2
+    }
+}
+service /subscriber on new Listener(BATCHED_SUB_PORT) {
+    isolated remote function onEventNotificationBatch(ContentDistributionMessage[] events)
+                        returns Acknowledgement|SubscriptionDeletedError? {
+        lock {
+            receivedBatchSizes.push(events.length());
+        }
+        return ACKNOWLEDGEMENT;
+    }
+}
+
+final http:Client batchedSubTestClient = check new (string `http://localhost:${BATCHED_SUB_PORT}/subscriber`);
+
+@test:Config {
+    groups: ["batchedSubscriber"]
+}
+isolated function testOnEventNotificationBatchForFilledBatch() returns error? {
+    future<http:Response|error> firstResponse = start batchedSubTestClient->post("/", {"id": 1});
+    future<http:Response|error> secondResponse = start batchedSubTestClient->post("/", {"id": 2});
+    future<http:Response|error> thirdResponse = start batchedSubTestClient->post("/", {"id": 3});
+    http:Response[] responses = [check wait firstResponse, check wait secondResponse, check wait thirdResponse];
+    foreach http:Response response in responses {
+        test:assertEquals(response.statusCode, 202);
+    }
+    test:assertEquals(retrieveReceivedBatchSizes(), [3]);
+}
+
+@test:Config {
+    groups: ["batchedSubscriber"],
+    dependsOn: [testOnEventNotificationBatchForFilledBatch]
+}
+isolated function testOnEventNotificationBatchAfterLingerTime() returns error? {
+    http:Response response = check batchedSubTestClient->post("/", {"id": 4});
+    test:assertEquals(response.statusCode, 202);
+    test:assertEquals(retrieveReceivedBatchSizes(), [3, 1]);
+}
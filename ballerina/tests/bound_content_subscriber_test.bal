@@ -0,0 +1,85 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/http;
+import ballerina/mime;
+import ballerina/test;
+
+type OrderEvent record {|
+    string orderId;
+    decimal amount;
+|};
+
+type OrderEventMessage record {|
+    *ContentDistributionMessage;
+    OrderEvent content;
+|};
+
+isolated OrderEvent? receivedOrderEvent = ();
+
+@SubscriberServiceConfig {
+    unsubscribeOnShutdown: false
+}
+service /subscriber on new Listener(BOUND_CONTENT_SUB_PORT) {
+    isolated remote function onEventNotification(OrderEventMessage event)
+                        returns Acknowledgement|SubscriptionDeletedError? {
+        lock {
+            receivedOrderEvent = event.content.clone();
+        }
+        return ACKNOWLEDGEMENT;
+    }
+}
+
+final http:Client boundContentSubTestClient = check new (string `http://localhost:${BOUND_CONTENT_SUB_PORT}/subscriber`);
+
+isolated function retrieveReceivedOrderEvent() returns OrderEvent? {
+    lock {
+        OrderEvent? orderEvent = receivedOrderEvent.clone();
+        receivedOrderEvent = ();
+        return orderEvent;
+    }
+}
+
+@test:Config {
+    groups: ["boundContentSubscriber"]
+}
+isolated function testBoundContentDelivery() returns error? {
+    http:Response response = check boundContentSubTestClient->post("/", {"orderId": "order-1", "amount": 10.5});
+    test:assertEquals(response.statusCode, http:STATUS_ACCEPTED);
+    test:assertEquals(retrieveReceivedOrderEvent(), {orderId: "order-1", amount: 10.5d});
+}
+
+@test:Config {
+    groups: ["boundContentSubscriber"],
+    dependsOn: [testBoundContentDelivery]
+}
+isolated function testBoundContentDeliveryWithMismatchedContent() returns error? {
+    http:Response response = check boundContentSubTestClient->post("/", {"orderId": "order-2"});
+    test:assertEquals(response.statusCode, http:STATUS_BAD_REQUEST);
+    test:assertEquals(retrieveReceivedOrderEvent(), ());
+}
+
+@test:Config {
+    groups: ["boundContentSubscriber"],
+    dependsOn: [testBoundContentDeliveryWithMismatchedContent]
+}
+isolated function testBoundContentDeliveryWithUnsupportedContentType() returns error? {
+    http:Request request = new;
+    request.setTextPayload("order-3", mime:TEXT_PLAIN);
+    http:Response response = check boundContentSubTestClient->post("/", request);
+    test:assertEquals(response.statusCode, http:STATUS_UNSUPPORTED_MEDIA_TYPE);
+    test:assertEquals(retrieveReceivedOrderEvent(), ());
+}
@@ -0,0 +1,70 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/http;
+import ballerina/test;
+
+listener Listener bulkAttachListener = new (BULK_ATTACH_SUB_PORT);
+final SimpleWebsubService firstBulkSubscriberService = new;
+final SimpleWebsubService secondBulkSubscriberService = new;
+final SimpleWebsubService conflictingBulkSubscriberService = new;
+
+final http:Client bulkAttachClientEp = check new (string `http://localhost:${BULK_ATTACH_SUB_PORT}`);
+
+isolated function bulkAttachConfig() returns SubscriberServiceConfiguration => {
+    unsubscribeOnShutdown: false
+};
+
+isolated function postBulkAttachedContent(string path) returns int|error {
+    http:Response response = check bulkAttachClientEp->post(path, {"action": "publish", "mode": "remote-hub"});
+    return response.statusCode;
+}
+
+@test:Config {
+    groups: ["bulkAttach"]
+}
+function testBulkAttach() returns error? {
+    check bulkAttachListener.attachAll([
+        {'service: firstBulkSubscriberService, name: "first", config: bulkAttachConfig()},
+        {'service: secondBulkSubscriberService, name: "second", config: bulkAttachConfig()}
+    ]);
+    test:assertEquals(check postBulkAttachedContent("/first"), http:STATUS_ACCEPTED);
+    test:assertEquals(check postBulkAttachedContent("/second"), http:STATUS_ACCEPTED);
+}
+
+@test:Config {
+    groups: ["bulkAttach"],
+    dependsOn: [testBulkAttach]
+}
+function testBulkDetach() returns error? {
+    check bulkAttachListener.detachAll([firstBulkSubscriberService, secondBulkSubscriberService]);
+    test:assertEquals(check postBulkAttachedContent("/first"), http:STATUS_NOT_FOUND);
+    test:assertEquals(check postBulkAttachedContent("/second"), http:STATUS_NOT_FOUND);
+}
+
+@test:Config {
+    groups: ["bulkAttach"],
+    dependsOn: [testBulkDetach]
+}
+function testBulkAttachWithConflictingServicePaths() returns error? {
+    Error? result = bulkAttachListener.attachAll([
+        {'service: firstBulkSubscriberService, name: "third", config: bulkAttachConfig()},
+        {'service: conflictingBulkSubscriberService, name: "third", config: bulkAttachConfig()}
+    ]);
+    test:assertTrue(result is Error);
+    // none of the services is attached when one of them could not be attached
+    test:assertEquals(check postBulkAttachedContent("/third"), http:STATUS_NOT_FOUND);
+}
@@ -0,0 +1,123 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/crypto;
+import ballerina/http;
+import ballerina/mime;
+import ballerina/test;
+
+// `{"action":"publish","mode":"remote"}` compressed with gzip and deflate respectively
+const byte[] GZIP_CONTENT = base16 `1f8b0800000000000203ab564a4c2ec9cccf53b2522a284dcac92cce50d251cacd4f49050a14a5e6e697a42ad502008022cacb24000000`;
+const byte[] DEFLATE_CONTENT = base16 `789cab564a4c2ec9cccf53b2522a284dcac92cce50d251cacd4f49050a14a5e6e697a42ad50200e4700c4f`;
+
+isolated json inflatedContent = ();
+
+listener Listener compressedContentListener = new (COMPRESSED_CONTENT_SUB_PORT);
+
+@SubscriberServiceConfig {
+    unsubscribeOnShutdown: false,
+    secret: "compressionSecret"
+}
+service /subscriber on compressedContentListener {
+    isolated remote function onEventNotification(ContentDistributionMessage event)
+                        returns Acknowledgement|SubscriptionDeletedError|error? {
+        json content = check event.content.ensureType();
+        lock {
+            inflatedContent = content.clone();
+        }
+        return ACKNOWLEDGEMENT;
+    }
+}
+
+@SubscriberServiceConfig {
+    unsubscribeOnShutdown: false,
+    secret: "compressionSecret",
+    maxInflatedContentSize: 16
+}
+service /bounded on compressedContentListener {
+    isolated remote function onEventNotification(ContentDistributionMessage event)
+                        returns Acknowledgement|SubscriptionDeletedError|error? {
+        json content = check event.content.ensureType();
+        lock {
+            inflatedContent = content.clone();
+        }
+        return ACKNOWLEDGEMENT;
+    }
+}
+
+final http:Client compressedContentSubTestClient = check new (string `http://localhost:${COMPRESSED_CONTENT_SUB_PORT}/subscriber`);
+
+isolated function retrieveInflatedContent() returns json {
+    lock {
+        json content = inflatedContent.clone();
+        inflatedContent = ();
+        return content;
+    }
+}
+
+isolated function createCompressedContentRequest(byte[] payload, string contentEncoding) returns http:Request|error {
+    http:Request request = new;
+    request.setBinaryPayload(payload, mime:APPLICATION_JSON);
+    request.setHeader("Content-Encoding", contentEncoding);
+    // the signature is generated over the compressed bytes, as they are transmitted
+    byte[] signature = check crypto:hmacSha256(payload, "compressionSecret".toBytes());
+    request.setHeader("X-Hub-Signature", string `sha256=${signature.toBase16()}`);
+    return request;
+}
+
+@test:Config {
+    groups: ["compressedContentSubscriber"]
+}
+isolated function testGzipContentDelivery() returns error? {
+    http:Response response = check compressedContentSubTestClient->post("/",
+            check createCompressedContentRequest(GZIP_CONTENT, "gzip"));
+    test:assertEquals(response.statusCode, http:STATUS_ACCEPTED);
+    test:assertEquals(retrieveInflatedContent(), {"action": "publish", "mode": "remote"});
+}
+
+@test:Config {
+    groups: ["compressedContentSubscriber"],
+    dependsOn: [testGzipContentDelivery]
+}
+isolated function testDeflateContentDelivery() returns error? {
+    http:Response response = check compressedContentSubTestClient->post("/",
+            check createCompressedContentRequest(DEFLATE_CONTENT, "deflate"));
+    test:assertEquals(response.statusCode, http:STATUS_ACCEPTED);
+    test:assertEquals(retrieveInflatedContent(), {"action": "publish", "mode": "remote"});
+}
+
+@test:Config {
+    groups: ["compressedContentSubscriber"],
+    dependsOn: [testDeflateContentDelivery]
+}
+isolated function testUnsupportedContentEncoding() returns error? {
+    http:Response response = check compressedContentSubTestClient->post("/",
+            check createCompressedContentRequest(GZIP_CONTENT, "br"));
+    test:assertEquals(response.statusCode, http:STATUS_UNSUPPORTED_MEDIA_TYPE);
+    test:assertEquals(retrieveInflatedContent(), ());
+}
+
+@test:Config {
+    groups: ["compressedContentSubscriber"],
+    dependsOn: [testUnsupportedContentEncoding]
+}
+isolated function testInflatedContentSizeLimit() returns error? {
+    http:Client boundedContentSubTestClient = check new (string `http://localhost:${COMPRESSED_CONTENT_SUB_PORT}/bounded`);
+    http:Response response = check boundedContentSubTestClient->post("/",
+            check createCompressedContentRequest(GZIP_CONTENT, "gzip"));
+    test:assertEquals(response.statusCode, http:STATUS_PAYLOAD_TOO_LARGE);
+    test:assertEquals(retrieveInflatedContent(), ());
+}
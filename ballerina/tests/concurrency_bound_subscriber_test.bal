@@ -0,0 +1,58 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/http;
+import ballerina/lang.runtime;
+import ballerina/test;
+
+@SubscriberServiceConfig {
+    unsubscribeOnShutdown: false,
+    concurrencyConfig: {
+        maxConcurrency: 1,
+        retryAfter: 5
+    }
+}
+service /subscriber on new Listener(CONCURRENCY_BOUND_SUB_PORT) {
+    isolated remote function onEventNotification(ContentDistributionMessage event)
+                        returns Acknowledgement|SubscriptionDeletedError? {
+        runtime:sleep(2);
+        return ACKNOWLEDGEMENT;
+    }
+}
+
+final http:Client concurrencyBoundSubTestClient = check new (string `http://localhost:${CONCURRENCY_BOUND_SUB_PORT}/subscriber`);
+
+@test:Config {
+    groups: ["concurrencyBoundSubscriber"]
+}
+isolated function testOnEventNotificationRejectionWhenConcurrencyLimitExceeded() returns error? {
+    future<http:Response|error> acceptedResponse = start concurrencyBoundSubTestClient->post("/", {"id": 1});
+    runtime:sleep(0.5);
+    http:Response rejectedResponse = check concurrencyBoundSubTestClient->post("/", {"id": 2});
+    test:assertEquals(rejectedResponse.statusCode, http:STATUS_TOO_MANY_REQUESTS);
+    test:assertEquals(check rejectedResponse.getHeader(RETRY_AFTER), "5");
+    http:Response response = check wait acceptedResponse;
+    test:assertEquals(response.statusCode, http:STATUS_ACCEPTED);
+}
+
+@test:Config {
+    groups: ["concurrencyBoundSubscriber"],
+    dependsOn: [testOnEventNotificationRejectionWhenConcurrencyLimitExceeded]
+}
+isolated function testOnEventNotificationAfterConcurrencySlotReleased() returns error? {
+    http:Response response = check concurrencyBoundSubTestClient->post("/", {"id": 3});
+    test:assertEquals(response.statusCode, http:STATUS_ACCEPTED);
+}
@@ -0,0 +1,103 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/http;
+import ballerina/mime;
+import ballerina/test;
+
+isolated int deduplicatedDeliveryCount = 0;
+
+listener Listener deduplicatedListener = new (DEDUPLICATED_SUB_PORT);
+
+@SubscriberServiceConfig {
+    unsubscribeOnShutdown: false,
+    deduplicationConfig: {
+        deliveryIdHeader: "X-Delivery-Id",
+        capacity: 100
+    }
+}
+service /subscriber on deduplicatedListener {
+    isolated remote function onEventNotification(ContentDistributionMessage event)
+                        returns Acknowledgement|SubscriptionDeletedError? {
+        lock {
+            deduplicatedDeliveryCount += 1;
+        }
+        return ACKNOWLEDGEMENT;
+    }
+}
+
+final http:Client deduplicatedSubTestClient = check new (string `http://localhost:${DEDUPLICATED_SUB_PORT}/subscriber`);
+
+isolated function retrieveDeduplicatedDeliveryCount() returns int {
+    lock {
+        return deduplicatedDeliveryCount;
+    }
+}
+
+@test:Config {
+    groups: ["deduplicatedSubscriber"]
+}
+function testDuplicateSuppressionByDeliveryId() returns error? {
+    foreach int _ in 0 ..< 2 {
+        http:Response response = check deduplicatedSubTestClient->post("/", {"id": 1}, {"X-Delivery-Id": "delivery-1"});
+        test:assertEquals(response.statusCode, http:STATUS_ACCEPTED);
+    }
+    http:Response response = check deduplicatedSubTestClient->post("/", {"id": 1}, {"X-Delivery-Id": "delivery-2"});
+    test:assertEquals(response.statusCode, http:STATUS_ACCEPTED);
+    test:assertEquals(retrieveDeduplicatedDeliveryCount(), 2);
+    test:assertEquals(deduplicatedListener.getDeduplicationStats(), {hits: 1, misses: 2});
+}
+
+@test:Config {
+    groups: ["deduplicatedSubscriber"],
+    dependsOn: [testDuplicateSuppressionByDeliveryId]
+}
+function testDuplicateSuppressionByContentHash() returns error? {
+    map<string> headers = {"Link": "<https://topic.com>; rel=\"self\""};
+    foreach int _ in 0 ..< 2 {
+        http:Response response = check deduplicatedSubTestClient->post("/", {"id": 2}, headers);
+        test:assertEquals(response.statusCode, http:STATUS_ACCEPTED);
+    }
+    http:Response response = check deduplicatedSubTestClient->post("/", {"id": 3}, headers);
+    test:assertEquals(response.statusCode, http:STATUS_ACCEPTED);
+    test:assertEquals(retrieveDeduplicatedDeliveryCount(), 4);
+    test:assertEquals(deduplicatedListener.getDeduplicationStats(), {hits: 2, misses: 4});
+}
+
+@test:Config {
+    groups: ["deduplicatedSubscriber"],
+    dependsOn: [testDuplicateSuppressionByContentHash]
+}
+function testDuplicateSuppressionBeforeContentParsing() returns error? {
+    http:Request malformedRequest = new;
+    malformedRequest.setTextPayload("{\"id\": ", mime:APPLICATION_JSON);
+    malformedRequest.setHeader("X-Delivery-Id", "delivery-3");
+    // a delivery which could not be parsed is not remembered, hence it is delivered when the `hub` retries it
+    http:Response response = check deduplicatedSubTestClient->post("/", malformedRequest);
+    test:assertNotEquals(response.statusCode, http:STATUS_ACCEPTED);
+    response = check deduplicatedSubTestClient->post("/", {"id": 4}, {"X-Delivery-Id": "delivery-3"});
+    test:assertEquals(response.statusCode, http:STATUS_ACCEPTED);
+    test:assertEquals(retrieveDeduplicatedDeliveryCount(), 5);
+
+    // a duplicate is acknowledged without parsing its content
+    malformedRequest = new;
+    malformedRequest.setTextPayload("{\"id\": ", mime:APPLICATION_JSON);
+    malformedRequest.setHeader("X-Delivery-Id", "delivery-3");
+    response = check deduplicatedSubTestClient->post("/", malformedRequest);
+    test:assertEquals(response.statusCode, http:STATUS_ACCEPTED);
+    test:assertEquals(retrieveDeduplicatedDeliveryCount(), 5);
+    test:assertEquals(deduplicatedListener.getDeduplicationStats(), {hits: 3, misses: 6});
+}
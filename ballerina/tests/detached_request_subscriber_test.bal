@@ -0,0 +1,97 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/http;
+import ballerina/test;
+
+isolated (readonly & ContentDistributionMessage)? retainedMessage = ();
+isolated (readonly & ContentDistributionMessage)? retainedAllowlistedMessage = ();
+
+listener Listener detachedRequestListener = new (DETACHED_REQUEST_SUB_PORT);
+
+@SubscriberServiceConfig {
+    unsubscribeOnShutdown: false,
+    detachHttpRequest: true
+}
+service /subscriber on detachedRequestListener {
+    isolated remote function onEventNotification(readonly & ContentDistributionMessage event)
+                        returns Acknowledgement|SubscriptionDeletedError? {
+        lock {
+            retainedMessage = event;
+        }
+        return ACKNOWLEDGEMENT;
+    }
+}
+
+final http:Client detachedRequestSubTestClient = check new (string `http://localhost:${DETACHED_REQUEST_SUB_PORT}/subscriber`);
+
+@test:Config {
+    groups: ["detachedRequestSubscriber"]
+}
+isolated function testHeaderRetrievalAfterRequestDetachment() returns error? {
+    http:Response response = check detachedRequestSubTestClient->post("/", {"action": "publish"}, {
+        "X-Custom-Header": ["first", "second"]
+    });
+    test:assertEquals(response.statusCode, http:STATUS_ACCEPTED);
+    (readonly & ContentDistributionMessage)? message;
+    lock {
+        message = retainedMessage;
+    }
+    if message is () {
+        test:assertFail("Content distribution message has not been delivered");
+    }
+    test:assertTrue(retrieveHttpRequest(message) is ());
+    test:assertEquals(check getHeaders(message, "x-custom-header"), ["first", "second"]);
+    test:assertEquals(check getHeader(message, "X-Custom-Header"), "first");
+    test:assertTrue(getHeader(message, "X-Unavailable-Header") is http:HeaderNotFoundError);
+}
+
+@SubscriberServiceConfig {
+    unsubscribeOnShutdown: false,
+    headerAllowlist: ["Content-Type"],
+    detachHttpRequest: true
+}
+service /allowlisted on detachedRequestListener {
+    isolated remote function onEventNotification(readonly & ContentDistributionMessage event)
+                        returns Acknowledgement|SubscriptionDeletedError? {
+        lock {
+            retainedAllowlistedMessage = event;
+        }
+        return ACKNOWLEDGEMENT;
+    }
+}
+
+@test:Config {
+    groups: ["detachedRequestSubscriber"]
+}
+isolated function testHeaderRetrievalAfterRequestDetachmentWithHeaderAllowlist() returns error? {
+    http:Response response = check detachedRequestSubTestClient->post("/allowlisted", {"action": "publish"}, {
+        "X-Custom-Header": ["first", "second"]
+    });
+    test:assertEquals(response.statusCode, http:STATUS_ACCEPTED);
+    (readonly & ContentDistributionMessage)? message;
+    lock {
+        message = retainedAllowlistedMessage;
+    }
+    if message is () {
+        test:assertFail("Content distribution message has not been delivered");
+    }
+    test:assertTrue(retrieveHttpRequest(message) is ());
+    test:assertFalse(message.headers.hasKey("X-Custom-Header"));
+    // the headers outside the allowlist are still available once the request is released
+    test:assertEquals(check getHeaders(message, "x-custom-header"), ["first", "second"]);
+    test:assertEquals(check getHeader(message, "Content-Type"), "application/json");
+}
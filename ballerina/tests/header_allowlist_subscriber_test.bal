@@ -0,0 +1,61 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/http;
+import ballerina/test;
+
+isolated map<string|string[]> allowlistedHeaders = {};
+isolated string? excludedHeaderValue = ();
+
+@SubscriberServiceConfig {
+    unsubscribeOnShutdown: false,
+    headerAllowlist: ["X-Delivery-Id"]
+}
+service /subscriber on new Listener(HEADER_ALLOWLIST_SUB_PORT) {
+    isolated remote function onEventNotification(ContentDistributionMessage event)
+                        returns Acknowledgement|SubscriptionDeletedError? {
+        map<string|string[]> headers = event.headers ?: {};
+        // the headers which are not allowlisted are still available via the original request
+        string|http:HeaderNotFoundError excludedHeader = getHeader(event, "X-Excluded-Header");
+        lock {
+            allowlistedHeaders = headers.clone();
+            excludedHeaderValue = excludedHeader is string ? excludedHeader : ();
+        }
+        return ACKNOWLEDGEMENT;
+    }
+}
+
+final http:Client headerAllowlistSubTestClient = check new (string `http://localhost:${HEADER_ALLOWLIST_SUB_PORT}/subscriber`);
+
+isolated function retrieveAllowlistedHeaders() returns [map<string|string[]>, string?] {
+    lock {
+        return [allowlistedHeaders.clone(), excludedHeaderValue];
+    }
+}
+
+@test:Config {
+    groups: ["headerAllowlistSubscriber"]
+}
+isolated function testHeaderAllowlist() returns error? {
+    http:Response response = check headerAllowlistSubTestClient->post("/", {"action": "publish"}, {
+        "X-Delivery-Id": "delivery-1",
+        "X-Excluded-Header": "excluded"
+    });
+    test:assertEquals(response.statusCode, http:STATUS_ACCEPTED);
+    [map<string|string[]>, string?] [headers, excludedHeader] = retrieveAllowlistedHeaders();
+    test:assertEquals(headers, {"X-Delivery-Id": ["delivery-1"]});
+    test:assertEquals(excludedHeader, "excluded");
+}
@@ -0,0 +1,75 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/http;
+import ballerina/mime;
+import ballerina/test;
+
+isolated anydata lazilyParsedContent = ();
+isolated boolean rawContentDelivered = false;
+
+@SubscriberServiceConfig {
+    unsubscribeOnShutdown: false,
+    lazyContent: true
+}
+service /subscriber on new Listener(LAZY_CONTENT_SUB_PORT) {
+    isolated remote function onEventNotification(ContentDistributionMessage event)
+                        returns Acknowledgement|SubscriptionDeletedError? {
+        map<string|string[]>|json|xml|string|byte[]|error content = getContent(event);
+        // the parsed content is reused for the subsequent accesses
+        map<string|string[]>|json|xml|string|byte[]|error cachedContent = getContent(event);
+        boolean isRawContent = event.content is byte[] && content === cachedContent;
+        anydata parsedContent = content is error ? content.message() : content;
+        lock {
+            rawContentDelivered = isRawContent;
+            lazilyParsedContent = parsedContent.clone();
+        }
+        return ACKNOWLEDGEMENT;
+    }
+}
+
+final http:Client lazyContentSubTestClient = check new (string `http://localhost:${LAZY_CONTENT_SUB_PORT}/subscriber`);
+
+isolated function retrieveLazilyParsedContent() returns [boolean, anydata] {
+    lock {
+        return [rawContentDelivered, lazilyParsedContent.clone()];
+    }
+}
+
+@test:Config {
+    groups: ["lazyContentSubscriber"]
+}
+isolated function testLazyJsonContentMaterialization() returns error? {
+    http:Response response = check lazyContentSubTestClient->post("/", {"action": "publish", "mode": "remote"});
+    test:assertEquals(response.statusCode, http:STATUS_ACCEPTED);
+    [boolean, anydata] [isRawContentDelivered, content] = retrieveLazilyParsedContent();
+    test:assertTrue(isRawContentDelivered);
+    test:assertEquals(content, {"action": "publish", "mode": "remote"});
+}
+
+@test:Config {
+    groups: ["lazyContentSubscriber"],
+    dependsOn: [testLazyJsonContentMaterialization]
+}
+isolated function testLazyFormContentMaterialization() returns error? {
+    http:Request request = new;
+    request.setTextPayload("topic=https%3A%2F%2Ftopic.com&mode=remote", mime:APPLICATION_FORM_URLENCODED);
+    http:Response response = check lazyContentSubTestClient->post("/", request);
+    test:assertEquals(response.statusCode, http:STATUS_ACCEPTED);
+    [boolean, anydata] [isRawContentDelivered, content] = retrieveLazilyParsedContent();
+    test:assertTrue(isRawContentDelivered);
+    test:assertEquals(content, {"topic": "https://topic.com", "mode": "remote"});
+}
@@ -0,0 +1,118 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/http;
+import ballerina/lang.runtime;
+import ballerina/test;
+
+isolated int leaseRenewalSubscriptionRequests = 0;
+isolated int failedLeaseRenewals = 0;
+
+isolated function retrieveLeaseRenewalSubscriptionRequests() returns int {
+    lock {
+        return leaseRenewalSubscriptionRequests;
+    }
+}
+
+service /lease on new http:Listener(LEASE_RENEWAL_HUB_PORT) {
+    isolated resource function post hub(http:Caller caller, http:Request request) returns error? {
+        lock {
+            leaseRenewalSubscriptionRequests += 1;
+        }
+        boolean isFailed;
+        lock {
+            isFailed = failedLeaseRenewals > 0;
+            if isFailed {
+                failedLeaseRenewals -= 1;
+            }
+        }
+        if isFailed {
+            http:Response response = new;
+            response.statusCode = http:STATUS_INTERNAL_SERVER_ERROR;
+            check caller->respond(response);
+            return;
+        }
+        check caller->respond();
+    }
+}
+
+listener Listener leaseRenewalListener = new (LEASE_RENEWAL_SUB_PORT, leaseRenewal = {
+    renewalFraction: 0.5,
+    jitterFraction: 0,
+    tickDuration: 0.1,
+    retryInterval: 0.2
+});
+
+@SubscriberServiceConfig {
+    target: [string `http://127.0.0.1:${LEASE_RENEWAL_HUB_PORT}/lease/hub`, "https://sample.topic.com"],
+    leaseSeconds: 36000,
+    unsubscribeOnShutdown: false
+}
+service /subscriber on leaseRenewalListener {
+    isolated remote function onEventNotification(ContentDistributionMessage event) returns Acknowledgement {
+        return ACKNOWLEDGEMENT;
+    }
+}
+
+final http:Client leaseRenewalClientEp = check new (string `http://localhost:${LEASE_RENEWAL_SUB_PORT}/subscriber`);
+
+isolated function sendLeaseVerification(string mode, string leaseSeconds) returns int|error {
+    string path = string `/?hub.mode=${mode}&hub.topic=https://sample.topic.com&hub.challenge=1234&hub.lease_seconds=${leaseSeconds}`;
+    http:Response response = check leaseRenewalClientEp->get(path);
+    return response.statusCode;
+}
+
+@test:Config {
+    groups: ["leaseRenewal"]
+}
+isolated function testLeaseRenewalAfterSubscriptionVerification() returns error? {
+    int initialRequests = retrieveLeaseRenewalSubscriptionRequests();
+    test:assertEquals(check sendLeaseVerification(MODE_SUBSCRIBE, "2"), http:STATUS_OK);
+    // the subscription is renewed after half of the granted lease
+    runtime:sleep(2);
+    test:assertEquals(retrieveLeaseRenewalSubscriptionRequests(), initialRequests + 1);
+}
+
+@test:Config {
+    groups: ["leaseRenewal"],
+    dependsOn: [testLeaseRenewalAfterSubscriptionVerification]
+}
+isolated function testLeaseRenewalCancelledAfterUnsubscriptionVerification() returns error? {
+    test:assertEquals(check sendLeaseVerification(MODE_SUBSCRIBE, "2"), http:STATUS_OK);
+    test:assertEquals(check sendLeaseVerification(MODE_UNSUBSCRIBE, "2"), http:STATUS_OK);
+    int requests = retrieveLeaseRenewalSubscriptionRequests();
+    runtime:sleep(2);
+    test:assertEquals(retrieveLeaseRenewalSubscriptionRequests(), requests);
+}
+
+@test:Config {
+    groups: ["leaseRenewal"],
+    dependsOn: [testLeaseRenewalCancelledAfterUnsubscriptionVerification]
+}
+isolated function testFailedLeaseRenewalRetry() returns error? {
+    lock {
+        failedLeaseRenewals = 1;
+    }
+    int initialRequests = retrieveLeaseRenewalSubscriptionRequests();
+    test:assertEquals(check sendLeaseVerification(MODE_SUBSCRIBE, "2"), http:STATUS_OK);
+    // the renewal fails after half of the granted lease, and it is retried before the lease expires
+    runtime:sleep(1.8);
+    test:assertEquals(retrieveLeaseRenewalSubscriptionRequests(), initialRequests + 2);
+    // the retried renewal is accepted, hence it is not retried again
+    runtime:sleep(1);
+    test:assertEquals(retrieveLeaseRenewalSubscriptionRequests(), initialRequests + 2);
+    test:assertEquals(check sendLeaseVerification(MODE_UNSUBSCRIBE, "2"), http:STATUS_OK);
+}
@@ -0,0 +1,80 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/http;
+import ballerina/test;
+
+listener Listener multiplexedListener = new (MULTIPLEXED_SUB_PORT, multiplexing = {prefix: "subscriptions"});
+final SimpleWebsubService firstMultiplexedService = new;
+final SimpleWebsubService secondMultiplexedService = new;
+final SimpleWebsubService conflictingMultiplexedService = new;
+
+final http:Client multiplexedClientEp = check new (string `http://localhost:${MULTIPLEXED_SUB_PORT}`);
+
+isolated function multiplexedServiceConfig() returns SubscriberServiceConfiguration => {
+    unsubscribeOnShutdown: false
+};
+
+isolated function postMultiplexedContent(string path) returns int|error {
+    http:Response response = check multiplexedClientEp->post(path, {"action": "publish", "mode": "remote-hub"});
+    return response.statusCode;
+}
+
+@test:Config {
+    groups: ["multiplexedListener"]
+}
+function testMultiplexedAttach() returns error? {
+    check multiplexedListener.attachWithConfig(firstMultiplexedService, multiplexedServiceConfig(), "first");
+    check multiplexedListener.attachAll([
+        {'service: secondMultiplexedService, name: "second", config: multiplexedServiceConfig()}
+    ]);
+    test:assertEquals(check postMultiplexedContent("/subscriptions/first"), http:STATUS_ACCEPTED);
+    test:assertEquals(check postMultiplexedContent("/subscriptions/second"), http:STATUS_ACCEPTED);
+    test:assertEquals(check postMultiplexedContent("/subscriptions/third"), http:STATUS_NOT_FOUND);
+}
+
+@test:Config {
+    groups: ["multiplexedListener"],
+    dependsOn: [testMultiplexedAttach]
+}
+function testMultiplexedAttachWithRegisteredSubscriptionId() returns error? {
+    Error? result = multiplexedListener.attachWithConfig(
+        conflictingMultiplexedService, multiplexedServiceConfig(), "first");
+    test:assertTrue(result is Error);
+    // the subscription which is already registered is not replaced
+    test:assertEquals(check postMultiplexedContent("/subscriptions/first"), http:STATUS_ACCEPTED);
+}
+
+@test:Config {
+    groups: ["multiplexedListener"]
+}
+function testMultiplexedAttachWithMultiSegmentPath() returns error? {
+    Error? result = multiplexedListener.attachWithConfig(
+        conflictingMultiplexedService, multiplexedServiceConfig(), ["nested", "path"]);
+    test:assertTrue(result is Error);
+}
+
+@test:Config {
+    groups: ["multiplexedListener"],
+    dependsOn: [testMultiplexedAttachWithRegisteredSubscriptionId]
+}
+function testMultiplexedDetach() returns error? {
+    check multiplexedListener.detach(firstMultiplexedService);
+    test:assertEquals(check postMultiplexedContent("/subscriptions/first"), http:STATUS_NOT_FOUND);
+    test:assertEquals(check postMultiplexedContent("/subscriptions/second"), http:STATUS_ACCEPTED);
+    check multiplexedListener.detachAll([secondMultiplexedService]);
+    test:assertEquals(check postMultiplexedContent("/subscriptions/second"), http:STATUS_NOT_FOUND);
+}
@@ -0,0 +1,164 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/http;
+import ballerina/lang.runtime;
+import ballerina/test;
+
+isolated string[] orderedDeliveries = [];
+
+listener Listener orderedListener = new (ORDERED_SUB_PORT);
+
+@SubscriberServiceConfig {
+    unsubscribeOnShutdown: false,
+    orderingConfig: {
+        keySource: ORDER_BY_TOPIC
+    }
+}
+service /subscriber on orderedListener {
+    isolated remote function onEventNotification(ContentDistributionMessage event)
+                        returns Acknowledgement|SubscriptionDeletedError?|error {
+        map<json> content = check event.content.ensureType();
+        decimal delay = check content["delay"].ensureType();
+        string id = check content["id"].ensureType();
+        runtime:sleep(delay);
+        lock {
+            orderedDeliveries.push(id);
+        }
+        return ACKNOWLEDGEMENT;
+    }
+}
+
+final http:Client orderedSubTestClient = check new (string `http://localhost:${ORDERED_SUB_PORT}/subscriber`);
+
+isolated function sendOrderedContent(string topic, string id, decimal delay) returns http:Response|error {
+    map<string> headers = {
+        "Link": string `<https://sample.hub.com>; rel="hub", <${topic}>; rel="self"`
+    };
+    return orderedSubTestClient->post("/", {id, delay}, headers);
+}
+
+@test:Config {
+    groups: ["orderedSubscriber"]
+}
+isolated function testOrderedContentDeliveryPerTopic() returns error? {
+    future<http:Response|error> first = start sendOrderedContent("https://topic.one.com", "one-1", 2);
+    runtime:sleep(0.5);
+    future<http:Response|error> second = start sendOrderedContent("https://topic.one.com", "one-2", 0);
+    runtime:sleep(0.5);
+    http:Response otherTopicResponse = check sendOrderedContent("https://topic.two.com", "two-1", 0);
+    test:assertEquals(otherTopicResponse.statusCode, http:STATUS_ACCEPTED);
+    http:Response firstResponse = check wait first;
+    test:assertEquals(firstResponse.statusCode, http:STATUS_ACCEPTED);
+    http:Response secondResponse = check wait second;
+    test:assertEquals(secondResponse.statusCode, http:STATUS_ACCEPTED);
+    string[] deliveries;
+    lock {
+        deliveries = orderedDeliveries.clone();
+    }
+    // content for a different topic is not blocked, while the content for the same topic preserves its order
+    test:assertEquals(deliveries, ["two-1", "one-1", "one-2"]);
+}
+
+@test:Config {
+    groups: ["orderedSubscriber"],
+    dependsOn: [testOrderedContentDeliveryPerTopic]
+}
+isolated function testOrderedContentDeliveryWithoutTopic() returns error? {
+    lock {
+        orderedDeliveries = [];
+    }
+    // the requests without a topic do not share an ordering key, hence they are not delivered one at a time
+    future<http:Response|error> first = start orderedSubTestClient->post("/", {id: "none-1", delay: 2.0d});
+    runtime:sleep(0.5);
+    http:Response secondResponse = check orderedSubTestClient->post("/", {id: "none-2", delay: 0.0d});
+    test:assertEquals(secondResponse.statusCode, http:STATUS_ACCEPTED);
+    http:Response firstResponse = check wait first;
+    test:assertEquals(firstResponse.statusCode, http:STATUS_ACCEPTED);
+    string[] deliveries;
+    lock {
+        deliveries = orderedDeliveries.clone();
+    }
+    test:assertEquals(deliveries, ["none-2", "none-1"]);
+}
+
+@test:Config {
+    groups: ["orderedSubscriber"]
+}
+function testHeaderOrderingWithoutHeaderName() returns error? {
+    SimpleWebsubService simpleService = new;
+    Error? result = orderedListener.attachWithConfig(simpleService, {
+        unsubscribeOnShutdown: false,
+        orderingConfig: {
+            keySource: ORDER_BY_HEADER
+        }
+    }, "header");
+    test:assertTrue(result is Error);
+}
+
+isolated string[] boundedOrderedDeliveries = [];
+
+@SubscriberServiceConfig {
+    unsubscribeOnShutdown: false,
+    orderingConfig: {
+        keySource: ORDER_BY_TOPIC
+    },
+    concurrencyConfig: {
+        maxConcurrency: 2
+    }
+}
+service /bounded on orderedListener {
+    isolated remote function onEventNotification(ContentDistributionMessage event)
+                        returns Acknowledgement|SubscriptionDeletedError?|error {
+        map<json> content = check event.content.ensureType();
+        decimal delay = check content["delay"].ensureType();
+        string id = check content["id"].ensureType();
+        runtime:sleep(delay);
+        lock {
+            boundedOrderedDeliveries.push(id);
+        }
+        return ACKNOWLEDGEMENT;
+    }
+}
+
+isolated function sendBoundedOrderedContent(string topic, string id, decimal delay) returns http:Response|error {
+    map<string> headers = {
+        "Link": string `<https://sample.hub.com>; rel="hub", <${topic}>; rel="self"`
+    };
+    return orderedSubTestClient->post("/bounded", {id, delay}, headers);
+}
+
+@test:Config {
+    groups: ["orderedSubscriber"]
+}
+isolated function testOrderedContentDeliveryWithConcurrencyLimit() returns error? {
+    future<http:Response|error> first = start sendBoundedOrderedContent("https://topic.one.com", "one-1", 2);
+    runtime:sleep(0.5);
+    future<http:Response|error> second = start sendBoundedOrderedContent("https://topic.one.com", "one-2", 0);
+    runtime:sleep(0.5);
+    // the request which waits for its ordering key does not hold a processing slot, hence the other topic is accepted
+    http:Response otherTopicResponse = check sendBoundedOrderedContent("https://topic.two.com", "two-1", 0);
+    test:assertEquals(otherTopicResponse.statusCode, http:STATUS_ACCEPTED);
+    http:Response firstResponse = check wait first;
+    test:assertEquals(firstResponse.statusCode, http:STATUS_ACCEPTED);
+    http:Response secondResponse = check wait second;
+    test:assertEquals(secondResponse.statusCode, http:STATUS_ACCEPTED);
+    string[] deliveries;
+    lock {
+        deliveries = boundedOrderedDeliveries.clone();
+    }
+    test:assertEquals(deliveries, ["two-1", "one-1", "one-2"]);
+}
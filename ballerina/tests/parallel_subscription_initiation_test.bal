@@ -0,0 +1,73 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/http;
+import ballerina/test;
+import ballerina/time;
+
+isolated int parallelSubInitRequests = 0;
+
+service /parallel on new http:Listener(PARALLEL_SUB_INIT_HUB_PORT) {
+    isolated resource function post hub(http:Caller caller, http:Request request) returns error? {
+        lock {
+            parallelSubInitRequests += 1;
+        }
+        check caller->respond();
+    }
+}
+
+isolated function createParallelSubInitService() returns SubscriberService {
+    return service object {
+        isolated remote function onEventNotification(ContentDistributionMessage event) returns Acknowledgement {
+            return ACKNOWLEDGEMENT;
+        }
+    };
+}
+
+isolated function parallelSubInitConfig(string hubPath) returns SubscriberServiceConfiguration => {
+    target: [string `http://127.0.0.1:${PARALLEL_SUB_INIT_HUB_PORT}/parallel/${hubPath}`, "https://sample.topic.com"],
+    leaseSeconds: 36000,
+    unsubscribeOnShutdown: false
+};
+
+@test:Config {
+    groups: ["subscriptionInitiation"]
+}
+function testParallelSubscriptionInitiationWithFailures() returns error? {
+    Listener ls = check new (PARALLEL_SUB_INIT_PORT, subscriptionInitiation = {parallelism: 4, requestsPerSecond: 10});
+    foreach int i in 0 ..< 4 {
+        check ls.attachWithConfig(createParallelSubInitService(), parallelSubInitConfig("hub"), string `success${i}`);
+    }
+    foreach int i in 0 ..< 2 {
+        check ls.attachWithConfig(createParallelSubInitService(), parallelSubInitConfig("failed"), string `failure${i}`);
+    }
+    decimal startedAt = time:monotonicNow();
+    Error? result = ls.'start();
+    decimal elapsed = time:monotonicNow() - startedAt;
+    // the failed subscriptions do not prevent the subscriptions of the other services
+    test:assertTrue(result is SubscriptionInitiationError);
+    if result is SubscriptionInitiationError {
+        test:assertTrue(result.message().startsWith("Subscription initiation failed for 2 services due to: "));
+    }
+    int hubRequests;
+    lock {
+        hubRequests = parallelSubInitRequests;
+    }
+    test:assertEquals(hubRequests, 4);
+    // the requests to the same `hub` are spaced by the configured rate
+    test:assertTrue(elapsed >= 0.3d);
+    check ls.gracefulStop();
+}
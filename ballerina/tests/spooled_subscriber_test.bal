@@ -0,0 +1,94 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/http;
+import ballerina/lang.runtime;
+import ballerina/test;
+import ballerina/time;
+
+isolated boolean spooledDeliveryBlocked = true;
+isolated string[] replayedDeliveries = [];
+
+isolated function isSpooledDeliveryBlocked() returns boolean {
+    lock {
+        return spooledDeliveryBlocked;
+    }
+}
+
+isolated service class BlockingSpooledSubscriberService {
+    *SubscriberService;
+
+    isolated remote function onEventNotification(ContentDistributionMessage event)
+                        returns Acknowledgement|SubscriptionDeletedError? {
+        // keeps the accepted content uncommitted in the spool until the test completes
+        while isSpooledDeliveryBlocked() {
+            runtime:sleep(0.1);
+        }
+        return ACKNOWLEDGEMENT;
+    }
+}
+
+isolated service class ReplayingSpooledSubscriberService {
+    *SubscriberService;
+
+    isolated remote function onEventNotification(ContentDistributionMessage event)
+                        returns Acknowledgement|SubscriptionDeletedError|error? {
+        map<json> content = check event.content.ensureType();
+        string id = check content["id"].ensureType();
+        lock {
+            replayedDeliveries.push(id);
+        }
+        return ACKNOWLEDGEMENT;
+    }
+}
+
+@test:Config {
+    groups: ["spooledSubscriber"]
+}
+function testSpooledContentReplayOnListenerStart() returns error? {
+    SubscriberServiceConfiguration config = {
+        unsubscribeOnShutdown: false,
+        asyncDeliveryConfig: {
+            spoolConfig: {
+                directory: string `target/websub-spool-test/${time:utcNow()[0]}`
+            }
+        }
+    };
+    Listener acceptingListener = check new (SPOOLED_SUB_PORT);
+    check acceptingListener.attachWithConfig(new BlockingSpooledSubscriberService(), config, "subscriber");
+    check acceptingListener.'start();
+    http:Client clientEp = check new (string `http://localhost:${SPOOLED_SUB_PORT}/subscriber`);
+    foreach string id in ["1", "2"] {
+        http:Response response = check clientEp->post("/", {id});
+        test:assertEquals(response.statusCode, http:STATUS_ACCEPTED);
+    }
+    check acceptingListener.immediateStop();
+
+    // the accepted content which is not yet delivered is replayed when a listener is started on the same spool
+    Listener replayingListener = check new (SPOOL_REPLAY_SUB_PORT);
+    check replayingListener.attachWithConfig(new ReplayingSpooledSubscriberService(), config, "subscriber");
+    check replayingListener.'start();
+    string[] deliveries;
+    lock {
+        deliveries = replayedDeliveries.clone();
+    }
+    test:assertEquals(deliveries, ["1", "2"]);
+
+    lock {
+        spooledDeliveryBlocked = false;
+    }
+    check replayingListener.immediateStop();
+}
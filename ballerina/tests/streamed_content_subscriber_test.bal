@@ -0,0 +1,99 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/crypto;
+import ballerina/http;
+import ballerina/io;
+import ballerina/mime;
+import ballerina/test;
+
+isolated int streamedContentLength = 0;
+isolated string? streamedContentError = ();
+
+@SubscriberServiceConfig {
+    unsubscribeOnShutdown: false,
+    secret: "streamingSecret",
+    streamingConfig: {
+        chunkSize: 4096
+    }
+}
+service /subscriber on new Listener(STREAMED_CONTENT_SUB_PORT) {
+    isolated remote function onEventNotification(ContentDistributionMessage event)
+                        returns Acknowledgement|SubscriptionDeletedError|error? {
+        stream<byte[], io:Error?> content = check getContentStream(event);
+        int contentLength = 0;
+        string? contentError = ();
+        while true {
+            record {| byte[] value; |}|io:Error? chunk = content.next();
+            if chunk is record {| byte[] value; |} {
+                contentLength += chunk.value.length();
+            } else {
+                contentError = chunk is io:Error ? chunk.message() : ();
+                break;
+            }
+        }
+        lock {
+            streamedContentLength = contentLength;
+            streamedContentError = contentError;
+        }
+        return ACKNOWLEDGEMENT;
+    }
+}
+
+final http:Client streamedContentSubTestClient = check new (string `http://localhost:${STREAMED_CONTENT_SUB_PORT}/subscriber`);
+
+isolated function retrieveStreamedContentResult() returns [int, string?] {
+    lock {
+        return [streamedContentLength, streamedContentError];
+    }
+}
+
+isolated function createStreamedContentRequest(byte[] payload, byte[] signedPayload) returns http:Request|error {
+    http:Request request = new;
+    request.setBinaryPayload(payload, mime:APPLICATION_OCTET_STREAM);
+    byte[] signature = check crypto:hmacSha256(signedPayload, "streamingSecret".toBytes());
+    request.setHeader("X-Hub-Signature", string `sha256=${signature.toBase16()}`);
+    return request;
+}
+
+@test:Config {
+    groups: ["streamedContentSubscriber"]
+}
+isolated function testStreamedContentDelivery() returns error? {
+    byte[] payload = [];
+    foreach int i in 0 ..< 20000 {
+        payload.push(<byte>(i % 256));
+    }
+    http:Response response = check streamedContentSubTestClient->post("/", check createStreamedContentRequest(payload, payload));
+    test:assertEquals(response.statusCode, http:STATUS_ACCEPTED);
+    [int, string?] [contentLength, contentError] = retrieveStreamedContentResult();
+    test:assertEquals(contentLength, 20000);
+    test:assertEquals(contentError, ());
+}
+
+@test:Config {
+    groups: ["streamedContentSubscriber"],
+    dependsOn: [testStreamedContentDelivery]
+}
+isolated function testStreamedContentVerificationFailure() returns error? {
+    byte[] payload = "streamed content".toBytes();
+    http:Response response = check streamedContentSubTestClient->post("/",
+            check createStreamedContentRequest(payload, "tampered content".toBytes()));
+    test:assertEquals(response.statusCode, http:STATUS_ACCEPTED);
+    [int, string?] [contentLength, contentError] = retrieveStreamedContentResult();
+    test:assertEquals(contentLength, payload.length());
+    test:assertEquals(contentError, "Content verification failed for the streamed content");
+}
@@ -101,3 +101,23 @@ function testUnsubscriptionIntentVerificationSuccessWithReadonly() returns error
     test:assertEquals(response.statusCode, 200);
     test:assertEquals(response.getTextPayload(), "1234");
 }
+
+@test:Config {
+    groups: ["subscriberWithReadonlyParams"]
+}
+function testOnEventNotificationSuccessWithReadonlyXmlContent() returns error? {
+    http:Request request = new;
+    request.setXmlPayload(xml `<action><mode>remote-hub</mode></action>`);
+    http:Response response = check readonlyParamTestClient->post("/", request);
+    test:assertEquals(response.statusCode, 202);
+}
+
+@test:Config {
+    groups: ["subscriberWithReadonlyParams"]
+}
+function testOnEventNotificationSuccessWithReadonlyFormContent() returns error? {
+    http:Request request = new;
+    request.setTextPayload("action=publish&mode=remote-hub", mime:APPLICATION_FORM_URLENCODED);
+    http:Response response = check readonlyParamTestClient->post("/", request);
+    test:assertEquals(response.statusCode, 202);
+}
@@ -31,6 +31,27 @@ const int ISOLATED_SUB_PORT = BASE_PORT + 12;
 const int SUB_WITH_RO_PARAMS_PORT = BASE_PORT + 13;
 const int SUB_INIT_RCS_DISCOVERY_PORT = BASE_PORT + 14;
 const int SUB_INIT_FAILURE_PORT = BASE_PORT + 15;
+const int BATCHED_SUB_PORT = BASE_PORT + 16;
+const int CONCURRENCY_BOUND_SUB_PORT = BASE_PORT + 17;
+const int ORDERED_SUB_PORT = BASE_PORT + 18;
+const int ASYNC_DELIVERY_SUB_PORT = BASE_PORT + 19;
+const int SPOOLED_SUB_PORT = BASE_PORT + 20;
+const int SPOOL_REPLAY_SUB_PORT = BASE_PORT + 21;
+const int LAZY_CONTENT_SUB_PORT = BASE_PORT + 22;
+const int STREAMED_CONTENT_SUB_PORT = BASE_PORT + 23;
+const int HEADER_ALLOWLIST_SUB_PORT = BASE_PORT + 24;
+const int DETACHED_REQUEST_SUB_PORT = BASE_PORT + 25;
+const int TIERED_PAYLOAD_SUB_PORT = BASE_PORT + 26;
+const int COMPRESSED_CONTENT_SUB_PORT = BASE_PORT + 27;
+const int DEDUPLICATED_SUB_PORT = BASE_PORT + 28;
+const int BOUND_CONTENT_SUB_PORT = BASE_PORT + 29;
+const int BULK_ATTACH_SUB_PORT = BASE_PORT + 30;
+const int MULTIPLEXED_SUB_PORT = BASE_PORT + 31;
+const int TOPIC_ROUTED_SUB_PORT = BASE_PORT + 32;
+const int LEASE_RENEWAL_SUB_PORT = BASE_PORT + 33;
+const int PARALLEL_SUB_INIT_PORT = BASE_PORT + 34;
 
 // Ports related to hub services
 const int COMMON_HUB_SVC_PORT = 9500;
+const int LEASE_RENEWAL_HUB_PORT = COMMON_HUB_SVC_PORT + 1;
+const int PARALLEL_SUB_INIT_HUB_PORT = COMMON_HUB_SVC_PORT + 2;
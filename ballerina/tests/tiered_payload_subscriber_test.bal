@@ -0,0 +1,95 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/http;
+import ballerina/lang.runtime;
+import ballerina/test;
+
+isolated map<json> tieredPayloadContents = {};
+isolated map<string> tieredPayloadContentTypes = {};
+isolated boolean tieredPayloadRequestRetained = false;
+
+@SubscriberServiceConfig {
+    unsubscribeOnShutdown: false,
+    asyncDeliveryConfig: {
+        payloadStorage: {
+            heapThreshold: 64,
+            fileThreshold: 1024
+        }
+    }
+}
+service /subscriber on new Listener(TIERED_PAYLOAD_SUB_PORT) {
+    isolated remote function onEventNotification(ContentDistributionMessage event)
+                        returns Acknowledgement|SubscriptionDeletedError|error? {
+        json content = check event.content.ensureType();
+        string id = check (check content.id).ensureType();
+        // only a snapshot of the headers is retained with a message queued in the payload storage
+        string contentType = check getHeader(event, "Content-Type");
+        boolean isRequestRetained = retrieveHttpRequest(event) !is ();
+        lock {
+            tieredPayloadContentTypes[id] = contentType;
+        }
+        lock {
+            tieredPayloadRequestRetained = tieredPayloadRequestRetained || isRequestRetained;
+        }
+        lock {
+            tieredPayloadContents[id] = content.clone();
+        }
+        return ACKNOWLEDGEMENT;
+    }
+}
+
+final http:Client tieredPayloadSubTestClient = check new (string `http://localhost:${TIERED_PAYLOAD_SUB_PORT}/subscriber`);
+
+isolated function retrieveTieredPayloadContent(string id) returns json {
+    lock {
+        return tieredPayloadContents[id].clone();
+    }
+}
+
+@test:Config {
+    groups: ["tieredPayloadSubscriber"]
+}
+function testTieredPayloadStorage() returns error? {
+    // the payloads are stored on the heap, in the direct buffer pool and in a temporary file respectively
+    map<json> payloads = {
+        "heap": {"id": "heap"},
+        "direct": {"id": "direct", "data": "d".padStart(512, "d")},
+        "file": {"id": "file", "data": "f".padStart(4096, "f")}
+    };
+    foreach json payload in payloads {
+        http:Response response = check tieredPayloadSubTestClient->post("/", payload);
+        test:assertEquals(response.statusCode, http:STATUS_ACCEPTED);
+    }
+    foreach [string, json] [id, payload] in payloads.entries() {
+        int attempts = 0;
+        while retrieveTieredPayloadContent(id) is () && attempts < 20 {
+            runtime:sleep(0.5);
+            attempts += 1;
+        }
+        test:assertEquals(retrieveTieredPayloadContent(id), payload);
+        string? contentType;
+        lock {
+            contentType = tieredPayloadContentTypes[id];
+        }
+        test:assertEquals(contentType, "application/json");
+    }
+    boolean isRequestRetained;
+    lock {
+        isRequestRetained = tieredPayloadRequestRetained;
+    }
+    test:assertFalse(isRequestRetained);
+}
@@ -0,0 +1,219 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/http;
+import ballerina/lang.runtime;
+import ballerina/test;
+
+isolated string[] topicRoutedDeliveries = [];
+
+isolated function recordTopicRoutedDelivery(string handler) {
+    lock {
+        topicRoutedDeliveries.push(handler);
+    }
+}
+
+listener Listener topicRoutedListener = new (TOPIC_ROUTED_SUB_PORT);
+
+@SubscriberServiceConfig {
+    unsubscribeOnShutdown: false,
+    routes: [
+        {topic: "https://topic.com/orders/created", handler: "onOrderCreated"},
+        {topic: "https://topic.com/orders/*", handler: "onOrderEvent"},
+        {topic: "https://topic.com/**", handler: "onOtherEvent"}
+    ]
+}
+service /subscriber on topicRoutedListener {
+    isolated remote function onEventNotification(ContentDistributionMessage event) returns Acknowledgement {
+        recordTopicRoutedDelivery("onEventNotification");
+        return ACKNOWLEDGEMENT;
+    }
+
+    isolated function onOrderCreated(ContentDistributionMessage event) returns Acknowledgement {
+        recordTopicRoutedDelivery("onOrderCreated");
+        return ACKNOWLEDGEMENT;
+    }
+
+    isolated function onOrderEvent(ContentDistributionMessage event) returns Acknowledgement {
+        recordTopicRoutedDelivery("onOrderEvent");
+        return ACKNOWLEDGEMENT;
+    }
+
+    isolated function onOtherEvent(ContentDistributionMessage event) returns Acknowledgement {
+        recordTopicRoutedDelivery("onOtherEvent");
+        return ACKNOWLEDGEMENT;
+    }
+}
+
+final http:Client topicRoutedClientEp = check new (string `http://localhost:${TOPIC_ROUTED_SUB_PORT}/subscriber`);
+
+isolated function sendTopicRoutedContent(string topic) returns int|error {
+    map<string> headers = {
+        "Link": string `<https://sample.hub.com>; rel="hub", <${topic}>; rel="self"`
+    };
+    http:Response response = check topicRoutedClientEp->post("/", {"action": "publish"}, headers);
+    return response.statusCode;
+}
+
+@test:Config {
+    groups: ["topicRoutedSubscriber"]
+}
+isolated function testTopicRoutedContentDelivery() returns error? {
+    test:assertEquals(check sendTopicRoutedContent("https://topic.com/orders/created"), http:STATUS_ACCEPTED);
+    test:assertEquals(check sendTopicRoutedContent("https://topic.com/orders/cancelled"), http:STATUS_ACCEPTED);
+    test:assertEquals(check sendTopicRoutedContent("https://topic.com/orders/created/eu"), http:STATUS_ACCEPTED);
+    test:assertEquals(check sendTopicRoutedContent("https://topic.com"), http:STATUS_ACCEPTED);
+    test:assertEquals(check sendTopicRoutedContent("https://other.topic.com/orders/created"), http:STATUS_ACCEPTED);
+    string[] deliveries;
+    lock {
+        deliveries = topicRoutedDeliveries.clone();
+    }
+    test:assertEquals(deliveries, ["onOrderCreated", "onOrderEvent", "onOtherEvent", "onOtherEvent",
+                                   "onEventNotification"]);
+}
+
+@test:Config {
+    groups: ["topicRoutedSubscriber"]
+}
+function testTopicRouteWithUnavailableHandler() returns error? {
+    SimpleWebsubService simpleService = new;
+    Error? result = topicRoutedListener.attachWithConfig(simpleService, {
+        unsubscribeOnShutdown: false,
+        routes: [{topic: "https://topic.com/**", handler: "onUnavailableEvent"}]
+    }, "unavailable");
+    test:assertTrue(result is Error);
+}
+
+@test:Config {
+    groups: ["topicRoutedSubscriber"]
+}
+function testTopicRouteWithMisplacedWildcard() returns error? {
+    SimpleWebsubService simpleService = new;
+    Error? result = topicRoutedListener.attachWithConfig(simpleService, {
+        unsubscribeOnShutdown: false,
+        routes: [{topic: "https://topic.com/**/orders", handler: "onEventNotification"}]
+    }, "misplaced");
+    test:assertTrue(result is Error);
+}
+
+isolated service class InvalidRouteHandlerService {
+    *SubscriberService;
+
+    isolated remote function onEventNotification(ContentDistributionMessage event) returns Acknowledgement {
+        return ACKNOWLEDGEMENT;
+    }
+
+    isolated function onOrderEvent(string event) returns Acknowledgement {
+        return ACKNOWLEDGEMENT;
+    }
+}
+
+isolated service class BatchedRouteService {
+    *SubscriberService;
+
+    isolated remote function onEventNotificationBatch(ContentDistributionMessage[] events) returns Acknowledgement {
+        return ACKNOWLEDGEMENT;
+    }
+
+    isolated function onOrderEvent(ContentDistributionMessage event) returns Acknowledgement {
+        return ACKNOWLEDGEMENT;
+    }
+}
+
+@test:Config {
+    groups: ["topicRoutedSubscriber"]
+}
+function testTopicRouteWithReservedHandler() returns error? {
+    SimpleWebsubService simpleService = new;
+    Error? result = topicRoutedListener.attachWithConfig(simpleService, {
+        unsubscribeOnShutdown: false,
+        routes: [{topic: "https://topic.com/**", handler: "onSubscriptionVerification"}]
+    }, "reserved");
+    test:assertTrue(result is Error);
+}
+
+@test:Config {
+    groups: ["topicRoutedSubscriber"]
+}
+function testTopicRouteWithInvalidHandlerParameter() returns error? {
+    InvalidRouteHandlerService invalidService = new;
+    Error? result = topicRoutedListener.attachWithConfig(invalidService, {
+        unsubscribeOnShutdown: false,
+        routes: [{topic: "https://topic.com/**", handler: "onOrderEvent"}]
+    }, "invalid");
+    test:assertTrue(result is Error);
+}
+
+@test:Config {
+    groups: ["topicRoutedSubscriber"]
+}
+function testTopicRouteWithBatchedDelivery() returns error? {
+    BatchedRouteService batchedService = new;
+    Error? result = topicRoutedListener.attachWithConfig(batchedService, {
+        unsubscribeOnShutdown: false,
+        routes: [{topic: "https://topic.com/**", handler: "onOrderEvent"}]
+    }, "batched");
+    test:assertTrue(result is Error);
+}
+
+isolated string[] queuedTopicRoutedDeliveries = [];
+
+@SubscriberServiceConfig {
+    unsubscribeOnShutdown: false,
+    headerAllowlist: ["Content-Type"],
+    asyncDeliveryConfig: {
+        payloadStorage: {}
+    },
+    routes: [
+        {topic: "https://topic.com/orders/*", handler: "onOrderEvent"}
+    ]
+}
+service /queued on topicRoutedListener {
+    isolated remote function onEventNotification(ContentDistributionMessage event) returns Acknowledgement {
+        lock {
+            queuedTopicRoutedDeliveries.push("onEventNotification");
+        }
+        return ACKNOWLEDGEMENT;
+    }
+
+    isolated function onOrderEvent(ContentDistributionMessage event) returns Acknowledgement|error {
+        // the `Link` header is not allowlisted, while it is still available from the header snapshot
+        string linkHeader = check getHeader(event, "Link");
+        lock {
+            queuedTopicRoutedDeliveries.push(string `onOrderEvent:${event.headers.hasKey("Link")}:${linkHeader}`);
+        }
+        return ACKNOWLEDGEMENT;
+    }
+}
+
+@test:Config {
+    groups: ["topicRoutedSubscriber"]
+}
+function testQueuedTopicRoutedContentDeliveryWithHeaderAllowlist() returns error? {
+    string linkHeader = "<https://sample.hub.com>; rel=\"hub\", <https://topic.com/orders/created>; rel=\"self\"";
+    http:Response response = check topicRoutedClientEp->post("/queued", {"action": "publish"}, {"Link": linkHeader});
+    test:assertEquals(response.statusCode, http:STATUS_ACCEPTED);
+    string[] deliveries = [];
+    int attempts = 0;
+    while deliveries.length() == 0 && attempts < 20 {
+        runtime:sleep(0.5);
+        attempts += 1;
+        lock {
+            deliveries = queuedTopicRoutedDeliveries.clone();
+        }
+    }
+    test:assertEquals(deliveries, [string `onOrderEvent:false:${linkHeader}`]);
+}
@@ -14,12 +14,47 @@
 // specific language governing permissions and limitations
 // under the License.
 
+import ballerina/crypto;
 import ballerina/test;
 import ballerina/http;
 import ballerina/mime;
 
 const string HASH_KEY = "secret";
 
+const string SHA1 = "sha1";
+const string SHA_256 = "sha256";
+const string SHA_384 = "sha384";
+const string SHA_512 = "sha512";
+
+# Generates the HMAC value for the payload depending on the provided algorithm, so that the signatures of the test
+# content distribution requests could be generated.
+#
+# + method - `HMAC` algorithm to be used
+# + key - Pre-shared subscriber secret key
+# + payload - Request payload to be hashed
+# + return - Calculated HMAC value if successfull or else an `error`
+isolated function retrieveContentHash(string method, string key, string|byte[] payload) returns byte[]|error {
+    byte[] keyArr = key.toBytes();
+    byte[] contentPayload = payload is string ? payload.toBytes() : payload;
+    match method {
+        SHA1 => {
+            return crypto:hmacSha1(contentPayload, keyArr);
+        }
+        SHA_256 => {
+            return crypto:hmacSha256(contentPayload, keyArr);
+        }
+        SHA_384 => {
+            return crypto:hmacSha384(contentPayload, keyArr);
+        }
+        SHA_512 => {
+            return crypto:hmacSha512(contentPayload, keyArr);
+        }
+        _ => {
+            return error Error(string `Unrecognized hashning-method [${method}] found`);
+        }
+    }
+}
+
 @test:Config { 
     groups: ["contentHashRetrieval"]
 }
@@ -65,6 +100,83 @@ isolated function testContentHashError() returns error? {
     }
 }
 
+@test:Config { 
+    groups: ["contentVerification"]
+}
+isolated function testContentVerificationSuccess() returns error? {
+    byte[] payload = "This is sample content".toBytes();
+    byte[] signature = check retrieveContentHash(SHA_256, HASH_KEY, payload);
+    http:Request request = new;
+    request.setHeader(X_HUB_SIGNATURE, string `${SHA_256}=${signature.toBase16()}`);
+    test:assertTrue(check verifyContent(request, HASH_KEY, payload));
+    // the verification should be repeatable for the same request
+    test:assertTrue(check verifyContent(request, HASH_KEY, payload));
+}
+
+@test:Config { 
+    groups: ["contentVerification"]
+}
+isolated function testContentVerificationFailure() returns error? {
+    byte[] signature = check retrieveContentHash(SHA1, HASH_KEY, "This is sample content");
+    http:Request request = new;
+    request.setHeader(X_HUB_SIGNATURE, string `${SHA1}=${signature.toBase16()}`);
+    test:assertFalse(check verifyContent(request, HASH_KEY, "This is tampered content".toBytes()));
+    request.setHeader(X_HUB_SIGNATURE, string `${SHA1}=not-a-hex-value`);
+    test:assertFalse(check verifyContent(request, HASH_KEY, "This is sample content".toBytes()));
+}
+
+@test:Config { 
+    groups: ["contentVerification"]
+}
+isolated function testContentVerificationWithUnrecognizedMethod() returns error? {
+    http:Request request = new;
+    request.setHeader(X_HUB_SIGNATURE, "xyz=1234");
+    boolean|error isVerified = verifyContent(request, HASH_KEY, "This is sample content".toBytes());
+    if isVerified is error {
+        test:assertEquals(isVerified.message(), "Unrecognized hashning-method [xyz] found");
+    } else {
+        test:assertFail("Content verification not properly working for unidentified hash-method");
+    }
+}
+
+@test:Config { 
+    groups: ["contentTypeResolution"]
+}
+isolated function testContentTypeResolution() {
+    ContentTypeDescriptor contentType = resolveContentType("Application/JSON; charset=\"UTF-16\"");
+    test:assertEquals(contentType, {mediaType: mime:APPLICATION_JSON, charset: "UTF-16", supported: true});
+    // the resolved value is interned for the recurring header values
+    test:assertTrue(contentType === resolveContentType("Application/JSON; charset=\"UTF-16\""));
+    test:assertEquals(resolveContentType("image/png"), {mediaType: "image/png", charset: (), supported: false});
+}
+
+@test:Config { 
+    groups: ["contentTypeResolution"]
+}
+isolated function testTopicResolutionFromLinkHeader() {
+    http:Request request = new;
+    request.addHeader(LINK_HEADER, "<https://hub.com>; rel=\"hub\", <https://topic.com>; rel=\"self\"");
+    test:assertEquals(retrieveTopicFromLinkHeader(request), "https://topic.com");
+}
+
+@test:Config { 
+    groups: ["contentTypeResolution"]
+}
+isolated function testTopicResolutionFromLinkHeaderVariants() {
+    map<string> linkHeaders = {
+        "<https://topic.com>; rel=self": "https://topic.com",
+        "<https://topic.com>;rel = \"SELF\"": "https://topic.com",
+        "<https://topic.com/a,b>; rel=\"self\"": "https://topic.com/a,b",
+        "<https://hub.com>; title=\"hub, one\"; rel=hub, <https://topic.com>; rel=\"alternate self\"": "https://topic.com",
+        "<https://topic.com>; rel=\"selfish\"": ""
+    };
+    foreach [string, string] [linkHeader, topic] in linkHeaders.entries() {
+        http:Request request = new;
+        request.addHeader(LINK_HEADER, linkHeader);
+        test:assertEquals(retrieveTopicFromLinkHeader(request), topic);
+    }
+}
+
 SubscriberService validSubscriberServiceDeclaration = @SubscriberServiceConfig { target: string `http://0.0.0.0:${COMMON_HUB_SVC_PORT}/common/discovery`, leaseSeconds: 36000, unsubscribeOnShutdown: false } 
                               service object {
     isolated remote function onEventNotification(ContentDistributionMessage event) 
@@ -15,7 +15,7 @@
 // under the License.
 
 import ballerina/http;
-import ballerina/crypto;
+import ballerina/io;
 import ballerina/log;
 import ballerina/lang.'string as strings;
 
@@ -58,9 +58,12 @@ isolated function retrieveSubscriptionRequest(string topicUrl, SubscriberService
 # ```
 # 
 # + request - Original `http:Request` object
+# + headerAllowlist - The names of the headers to be retrieved. All the headers are retrieved if this is not provided
 # + return - Header values found in the provided `http:Request`
-isolated function retrieveRequestHeaders(http:Request request) returns map<string|string[]> {
-    string[] headerNames = request.getHeaderNames();
+isolated function retrieveRequestHeaders(http:Request request, string[]? headerAllowlist = ()) 
+                                         returns map<string|string[]> {
+    // only the allowed headers are looked up, hence the request headers are not iterated
+    string[] headerNames = headerAllowlist is string[] ? headerAllowlist : request.getHeaderNames();
     map<string|string[]> headers = {};
 
     foreach var headerName in headerNames {
@@ -115,60 +118,24 @@ isolated function retrieveRequestQueryParams(http:Request request) returns Reque
 # 
 # + request - Original `http:Request` object
 # + secret - Pre-shared subscriber secret key
-# + payload - Request payload
+# + payload - Raw request payload
+# + adaptor - The `HttpToWebsubAdaptor` of the subscriber service, which pools the `Mac` instances for its secret
 # + return - `true` if the verification is successful or else `false`
-isolated function verifyContent(http:Request request, string secret, string payload) returns boolean|error {
-    if secret.trim().length() > 0 {
-        if request.hasHeader(X_HUB_SIGNATURE) {
-                string xHubSignature = check request.getHeader(X_HUB_SIGNATURE);
-                if xHubSignature.trim().length() == 0 {
-                    return false;
-                } else {
-                    string[] splitSignature = re `=`.split(xHubSignature);
-                    string method = splitSignature[0];
-                    string signature = re `${method}=`.replaceAll(xHubSignature, "");
-                    byte[] generatedSignature = check retrieveContentHash(method, secret, payload);
-                    return signature == generatedSignature.toBase16(); 
-                }          
-        } else {
-            return false;
-        }
-    } else {
+isolated function verifyContent(http:Request request, string secret, byte[] payload, 
+                                HttpToWebsubAdaptor? adaptor = ()) returns boolean|error {
+    if secret.trim().length() == 0 {
         return true;
     }
-}
-
-# Generates the HMAC value for the payload depending on the provided algorithm.
-# ```ballerina
-# byte[] hMacSignature = check retrieveContentHash("SHA1", secretKey, requestPayload);
-# ```
-# 
-# + method - `HMAC` algorithm to be used
-# + key - Pre-shared subscriber secret key
-# + payload - Request payload to be hashed
-# + return - Calculated HMAC value if successfull or else an `error`
-isolated function retrieveContentHash(string method, string key, string payload) returns byte[]|error {
-    byte[] keyArr = key.toBytes();
-    byte[] contentPayload = payload.toBytes();
-    match method {
-        SHA1 => {
-            return crypto:hmacSha1(contentPayload, keyArr);
-        }
-        SHA_256 => {
-            return crypto:hmacSha256(contentPayload, keyArr);
-        }
-        SHA_384 => {
-            return crypto:hmacSha384(contentPayload, keyArr);
-        }
-        SHA_512 => {
-            return crypto:hmacSha512(contentPayload, keyArr);
-        }
-        _ => {
-            string errorMsg = string `Unrecognized hashning-method [${method}] found`;
-            log:printError(errorMsg);
-            return error Error(errorMsg);
-        }
+    string|http:HeaderNotFoundError xHubSignature = request.getHeader(X_HUB_SIGNATURE);
+    if xHubSignature is http:HeaderNotFoundError || xHubSignature.trim().length() == 0 {
+        return false;
+    }
+    // the signature is verified natively using a `Mac` pooled by the service and a constant-time comparison
+    boolean|Error isVerified = verifyContentSignature(xHubSignature, secret, payload, adaptor);
+    if isVerified is Error {
+        log:printError(isVerified.message());
     }
+    return isVerified;
 }
 
 # Updates the `http:Response` body with the provided additional parameters.
@@ -233,6 +200,85 @@ isolated function isSuccessStatusCode(int statusCode) returns boolean {
     return (200 <= statusCode && statusCode < 300);
 }
 
+# Retrieves the ordering key of a content distribution request.
+# ```ballerina
+# string? orderingKey = retrieveOrderingKey(httpRequest, orderingConfig);
+# ```
+# 
+# + request - Received `http:Request`
+# + config - Configurations related to the ordered content delivery
+# + return - The ordering key derived from the configured source, or else `()` if the source is not available in the
+#            request, so that such requests are not serialized behind each other
+isolated function retrieveOrderingKey(http:Request request, OrderingConfig config) returns string? {
+    match config.keySource {
+        ORDER_BY_HEADER => {
+            // the `headerName` is validated when the service is attached
+            string|http:HeaderNotFoundError headerValue = request.getHeader(<string>config?.headerName);
+            return headerValue is string ? headerValue : ();
+        }
+        ORDER_BY_TOPIC => {
+            string topic = retrieveTopicFromLinkHeader(request);
+            return topic.length() > 0 ? topic : ();
+        }
+    }
+    // when the ordering key is derived from the callback, all the requests share the same key
+    return "";
+}
+
+# Retrieves the `topic` URL advertised in the `Link` header (`rel="self"`) of a content distribution request.
+# ```ballerina
+# string topic = retrieveTopicFromLinkHeader(httpRequest);
+# ```
+# 
+# + request - Received `http:Request`
+# + return - The `topic` URL if it is available, or else an empty string
+isolated function retrieveTopicFromLinkHeader(http:Request request) returns string {
+    string[]|http:HeaderNotFoundError linkHeaders = request.getHeaders(LINK_HEADER);
+    if linkHeaders is http:HeaderNotFoundError {
+        return "";
+    }
+    // the topics resolved from the recurring `Link` header values are interned natively
+    return resolveTopic(linkHeaders);
+}
+
+# Retrieves the `topic` from the header snapshot of a content distribution message, of which the original 
+# `http:Request` is already released.
+# 
+# + msg - Current `websub:ContentDistributionMessage` object
+# + return - The `topic` URL if it is available, or else an empty string
+isolated function retrieveTopicFromHeaderSnapshot(ContentDistributionMessage msg) returns string {
+    string[]? linkHeaders = retrieveSnapshotHeaders(msg, LINK_HEADER);
+    return linkHeaders is () ? "" : resolveTopic(linkHeaders);
+}
+
+# Retrieves the `Content-Encoding` of a content distribution request.
+# ```ballerina
+# string? contentEncoding = check retrieveContentEncoding(httpRequest);
+# ```
+# 
+# + request - Received `http:Request`
+# + return - `gzip` or `deflate` if the content is compressed, `()` if the content is not compressed, or else an 
+#            `websub:Error` if the content-encoding is not supported
+isolated function retrieveContentEncoding(http:Request request) returns string|Error? {
+    string|http:HeaderNotFoundError headerValue = request.getHeader(CONTENT_ENCODING);
+    if headerValue is http:HeaderNotFoundError {
+        return;
+    }
+    string contentEncoding = headerValue.trim().toLowerAscii();
+    match contentEncoding {
+        GZIP|X_GZIP => {
+            return GZIP;
+        }
+        DEFLATE => {
+            return DEFLATE;
+        }
+        IDENTITY|"" => {
+            return;
+        }
+    }
+    return error Error(string `Unsupported content-encoding [${contentEncoding}] found`);
+}
+
 isolated function retrieveHttpClient(string url, http:ClientConfiguration config) returns http:Client|Error {
     http:Client|error clientEp = new (url, config);
     if clientEp is http:Client {
@@ -249,8 +295,12 @@ isolated function retrieveHttpClient(string url, http:ClientConfiguration config
 # + return - The first header value for the specified header name or the `http:HeaderNotFoundError` if the header is not
 #            found.
 public isolated function getHeader(ContentDistributionMessage msg, string headerName) returns string|http:HeaderNotFoundError {
-    http:Request originalRequest = retrieveHttpRequest(msg);
-    return originalRequest.getHeader(headerName);
+    http:Request? originalRequest = retrieveHttpRequest(msg);
+    if originalRequest is http:Request {
+        return originalRequest.getHeader(headerName);
+    }
+    string[]|http:HeaderNotFoundError headerValues = retrieveDetachedHeaders(msg, headerName);
+    return headerValues is string[] ? headerValues[0] : headerValues;
 }
 
 # Gets all the header values to which the specified header key maps to.
@@ -260,6 +310,54 @@ public isolated function getHeader(ContentDistributionMessage msg, string header
 # + return - The header values the specified header key maps to or the `http:HeaderNotFoundError` if the header is not
 #            found.
 public isolated function getHeaders(ContentDistributionMessage msg, string headerName) returns string[]|http:HeaderNotFoundError {
-    http:Request originalRequest = retrieveHttpRequest(msg);
-    return originalRequest.getHeaders(headerName);
+    http:Request? originalRequest = retrieveHttpRequest(msg);
+    if originalRequest is http:Request {
+        return originalRequest.getHeaders(headerName);
+    }
+    return retrieveDetachedHeaders(msg, headerName);
+}
+
+# Retrieves the header values from the header snapshot, which is retained once the original `http:Request` is 
+# released in the `detachHttpRequest` mode.
+#
+# + msg - Current `websub:ContentDistributionMessage` object
+# + headerName - The header name
+# + return - The header values or the `http:HeaderNotFoundError` if the header is not found
+isolated function retrieveDetachedHeaders(ContentDistributionMessage msg, string headerName) 
+                                          returns string[]|http:HeaderNotFoundError {
+    string[]? headerValues = retrieveSnapshotHeaders(msg, headerName);
+    if headerValues is () || headerValues.length() == 0 {
+        return error http:HeaderNotFoundError("Http header does not exist");
+    }
+    return headerValues;
+}
+
+# Retrieves the content of the content distribution message. When the `lazyContent` mode is enabled for the
+# `websub:SubscriberService`, the raw content is parsed according to its content-type on the first access, and the
+# parsed content is reused for the subsequent accesses.
+# ```ballerina
+# json content = check websub:getContent(msg).ensureType();
+# ```
+#
+# + msg - Current `websub:ContentDistributionMessage` object
+# + return - The parsed content or an `websub:Error` if the content could not be parsed
+public isolated function getContent(ContentDistributionMessage msg) returns map<string|string[]>|json|xml|string|byte[]|Error {
+    return retrieveContent(msg);
+}
+
+# Retrieves the content of a content distribution message, which is delivered in the streamed content mode, as a
+# stream of chunks. The stream could be consumed only once, and when a `secret` is configured for the
+# `websub:SubscriberService`, the last read of the stream returns an `io:Error` if the content verification fails.
+# ```ballerina
+# stream<byte[], io:Error?> content = check websub:getContentStream(msg);
+# ```
+#
+# + msg - Current `websub:ContentDistributionMessage` object
+# + return - The content as a stream of chunks or an `websub:Error` if the content of the message is not streamed
+public isolated function getContentStream(ContentDistributionMessage msg) returns stream<byte[], io:Error?>|Error {
+    stream<byte[], io:Error?>? contentStream = retrieveContentStream(msg);
+    if contentStream is () {
+        return error Error("Content of the content distribution message is not streamed");
+    }
+    return contentStream;
 }
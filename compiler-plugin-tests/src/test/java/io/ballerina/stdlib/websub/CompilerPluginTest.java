@@ -414,6 +414,46 @@ public class CompilerPluginTest {
         Assert.assertEquals(errorDiagnostics.size(), 0);
     }
 
+    @Test
+    public void testValidServiceDeclarationWithBatchedEventNotification() {
+        Package currentPackage = loadPackage("sample_26");
+        PackageCompilation compilation = currentPackage.getCompilation();
+        DiagnosticResult diagnosticResult = compilation.diagnosticResult();
+        List<Diagnostic> errorDiagnostics = diagnosticResult.diagnostics().stream()
+                .filter(d -> DiagnosticSeverity.ERROR.equals(d.diagnosticInfo().severity()))
+                .toList();
+        Assert.assertEquals(errorDiagnostics.size(), 0);
+    }
+
+    @Test
+    public void testValidServiceDeclarationWithBoundContent() {
+        Package currentPackage = loadPackage("sample_27");
+        PackageCompilation compilation = currentPackage.getCompilation();
+        DiagnosticResult diagnosticResult = compilation.diagnosticResult();
+        List<Diagnostic> errorDiagnostics = diagnosticResult.diagnostics().stream()
+                .filter(d -> DiagnosticSeverity.ERROR.equals(d.diagnosticInfo().severity()))
+                .toList();
+        Assert.assertEquals(errorDiagnostics.size(), 0);
+    }
+
+    @Test
+    public void testCompilerPluginForInvalidBoundContentType() {
+        Package currentPackage = loadPackage("sample_28");
+        PackageCompilation compilation = currentPackage.getCompilation();
+        DiagnosticResult diagnosticResult = compilation.diagnosticResult();
+        List<Diagnostic> errorDiagnostics = diagnosticResult.diagnostics().stream()
+                .filter(d -> DiagnosticSeverity.ERROR.equals(d.diagnosticInfo().severity()))
+                .toList();
+        Assert.assertEquals(errorDiagnostics.size(), 1);
+        Diagnostic diagnostic = errorDiagnostics.get(0);
+        DiagnosticInfo diagnosticInfo = diagnostic.diagnosticInfo();
+        WebSubDiagnosticCodes expectedCode = WebSubDiagnosticCodes.WEBSUB_110;
+        Assert.assertNotNull(diagnosticInfo, "DiagnosticInfo is null for erroneous service definition");
+        Assert.assertEquals(diagnosticInfo.code(), expectedCode.getCode());
+        String expectedMsg = MessageFormat.format(expectedCode.getDescription(), "xml", "onEventNotification");
+        Assert.assertEquals(diagnostic.message(), expectedMsg);
+    }
+
     private Package loadPackage(String path) {
         Path projectDirPath = RESOURCE_DIRECTORY.resolve(path);
         BuildProject project = BuildProject.load(getEnvironmentBuilder(), projectDirPath);
@@ -0,0 +1,41 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/log;
+import ballerina/websub;
+
+@websub:SubscriberServiceConfig {
+    batchConfig: {
+        maxBatchSize: 50,
+        maxLingerTime: 0.5
+    }
+}
+service /subscriber on new websub:Listener(9106) {
+    isolated remote function onEventNotificationBatch(websub:ContentDistributionMessage[] events)
+                        returns websub:Acknowledgement|websub:SubscriptionDeletedError|error? {
+        log:printInfo("onEventNotificationBatch invoked ", batchSize = events.length());
+        return websub:ACKNOWLEDGEMENT;
+    }
+}
+
+@websub:SubscriberServiceConfig {}
+service /readonlySubscriber on new websub:Listener(9107) {
+    isolated remote function onEventNotificationBatch(readonly & websub:ContentDistributionMessage[] events)
+                        returns websub:Acknowledgement? {
+        log:printInfo("onEventNotificationBatch invoked ", batchSize = events.length());
+        return websub:ACKNOWLEDGEMENT;
+    }
+}
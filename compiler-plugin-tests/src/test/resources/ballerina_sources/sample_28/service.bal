@@ -0,0 +1,32 @@
+// Copyright (c) 2026 WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 LLC. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/log;
+import ballerina/websub;
+
+type XmlEventMessage record {|
+    *websub:ContentDistributionMessage;
+    xml content;
+|};
+
+@websub:SubscriberServiceConfig {}
+service /subscriber on new websub:Listener(9110) {
+    isolated remote function onEventNotification(XmlEventMessage event)
+                        returns websub:Acknowledgement|websub:SubscriptionDeletedError|error? {
+        log:printInfo("onEventNotification invoked ", content = event.content);
+        return websub:ACKNOWLEDGEMENT;
+    }
+}
@@ -33,12 +33,14 @@ public interface Constants {
     String ON_SUBSCRIPTION_VERIFICATION = "onSubscriptionVerification";
     String ON_UNSUBSCRIPTION_VERIFICATION = "onUnsubscriptionVerification";
     String ON_EVENT_NOTIFICATION = "onEventNotification";
+    String ON_EVENT_NOTIFICATION_BATCH = "onEventNotificationBatch";
 
     String SUBSCRIPTION_DENIED_ERROR = "websub:SubscriptionDeniedError";
     String INTERNAL_HUB_ERROR = "websub:InternalHubError";
     String SUBSCRIPTION_VERIFICATION = "websub:SubscriptionVerification";
     String UNSUBSCRIPTION_VERIFICATION = "websub:UnsubscriptionVerification";
     String CONTENT_DISTRIBUTION_MESSAGE = "websub:ContentDistributionMessage";
+    String CONTENT_DISTRIBUTION_MESSAGE_BATCH = "websub:ContentDistributionMessage[]";
     String ACKNOWLEDGEMENT = "websub:Acknowledgement";
     String SUBSCRIPTION_VERIFICATION_SUCCESS = "websub:SubscriptionVerificationSuccess";
     String SUBSCRIPTION_VERIFICATION_ERROR = "websub:SubscriptionVerificationError";
@@ -49,8 +51,10 @@ public interface Constants {
 
     String CALLBACK = "callback";
     String APPEND_SERVICE_PATH = "appendServicePath";
+    String CONTENT_FIELD = "content";
 
     String OPTIONAL = "?";
+    String ARRAY = "[]";
 
     String LS = System.getProperty("line.separator");
     
@@ -31,7 +31,8 @@ public enum WebSubDiagnosticCodes {
             DiagnosticSeverity.ERROR),
     WEBSUB_102("WEBSUB_102", "{0} method should be declared as a remote method",
             DiagnosticSeverity.ERROR),
-    WEBSUB_103("WEBSUB_103", "websub:SubscriberService should implement onEventNotification method",
+    WEBSUB_103("WEBSUB_103",
+            "websub:SubscriberService should implement onEventNotification or onEventNotificationBatch method",
             DiagnosticSeverity.ERROR),
     WEBSUB_104("WEBSUB_104", "{0} method is not allowed in websub:SubscriberService declaration",
             DiagnosticSeverity.ERROR),
@@ -45,6 +46,9 @@ public enum WebSubDiagnosticCodes {
     WEBSUB_109("WEBSUB_109",
             "websub:Listener should only take either http:Listener or websub:ListenerConfiguration",
             DiagnosticSeverity.ERROR),
+    WEBSUB_110("WEBSUB_110",
+            "{0} type is not allowed as the content of {1} method, content should be a subtype of json",
+            DiagnosticSeverity.ERROR),
     WEBSUB_200("WEBSUB_200",
             "Error occurred while generating unique service path for websub:SubscriberService : {0}",
             DiagnosticSeverity.ERROR),
@@ -19,6 +19,7 @@
 package io.ballerina.stdlib.websub.task;
 
 import io.ballerina.compiler.api.ModuleID;
+import io.ballerina.compiler.api.symbols.ArrayTypeSymbol;
 import io.ballerina.compiler.api.symbols.ErrorTypeSymbol;
 import io.ballerina.compiler.api.symbols.FunctionSymbol;
 import io.ballerina.compiler.api.symbols.IntersectionTypeSymbol;
@@ -111,10 +112,14 @@ public final class AnalyserUtils {
                     .filter(e -> !e.isEmpty() && !e.isBlank())
                     .reduce((a, b) -> String.join("|", a, b)).orElse("");
             return optionalSymbolAvailable ? concatenatedTypeDesc + Constants.OPTIONAL : concatenatedTypeDesc;
+        } else if (TypeDescKind.ARRAY.equals(paramKind)) {
+            TypeSymbol memberType = ((ArrayTypeSymbol) paramType).memberTypeDescriptor();
+            return getTypeDescription(memberType) + Constants.ARRAY;
         } else if (TypeDescKind.INTERSECTION.equals(paramKind)) {
             List<TypeSymbol> availableTypes = ((IntersectionTypeSymbol) paramType).memberTypeDescriptors();
             return availableTypes.stream()
-                    .filter(e -> TypeDescKind.TYPE_REFERENCE.equals(e.typeKind()))
+                    .filter(e -> TypeDescKind.TYPE_REFERENCE.equals(e.typeKind())
+                            || TypeDescKind.ARRAY.equals(e.typeKind()))
                     .map(AnalyserUtils::getTypeDescription)
                     .filter(e -> !e.isEmpty() && !e.isBlank())
                     .reduce((a, b) -> String.join("&", a, b)).orElse("");
@@ -23,8 +23,11 @@ import io.ballerina.compiler.api.symbols.AnnotationSymbol;
 import io.ballerina.compiler.api.symbols.ErrorTypeSymbol;
 import io.ballerina.compiler.api.symbols.FunctionSymbol;
 import io.ballerina.compiler.api.symbols.FunctionTypeSymbol;
+import io.ballerina.compiler.api.symbols.IntersectionTypeSymbol;
 import io.ballerina.compiler.api.symbols.ModuleSymbol;
 import io.ballerina.compiler.api.symbols.ParameterSymbol;
+import io.ballerina.compiler.api.symbols.RecordFieldSymbol;
+import io.ballerina.compiler.api.symbols.RecordTypeSymbol;
 import io.ballerina.compiler.api.symbols.ServiceDeclarationSymbol;
 import io.ballerina.compiler.api.symbols.TypeDescKind;
 import io.ballerina.compiler.api.symbols.TypeReferenceTypeSymbol;
@@ -41,6 +44,7 @@ import io.ballerina.stdlib.websub.WebSubDiagnosticCodes;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -67,7 +71,8 @@ public class ServiceDeclarationValidator {
                 Constants.ON_HUB_ERROR,
                 Constants.ON_SUBSCRIPTION_VERIFICATION,
                 Constants.ON_UNSUBSCRIPTION_VERIFICATION,
-                Constants.ON_EVENT_NOTIFICATION);
+                Constants.ON_EVENT_NOTIFICATION,
+                Constants.ON_EVENT_NOTIFICATION_BATCH);
         allowedParameterTypes = Map.of(
                 Constants.ON_HUB_ERROR,
                 Collections.singletonList(Constants.INTERNAL_HUB_ERROR),
@@ -78,7 +83,9 @@ public class ServiceDeclarationValidator {
                 Constants.ON_UNSUBSCRIPTION_VERIFICATION,
                 Collections.singletonList(Constants.UNSUBSCRIPTION_VERIFICATION),
                 Constants.ON_EVENT_NOTIFICATION,
-                Collections.singletonList(Constants.CONTENT_DISTRIBUTION_MESSAGE)
+                Collections.singletonList(Constants.CONTENT_DISTRIBUTION_MESSAGE),
+                Constants.ON_EVENT_NOTIFICATION_BATCH,
+                Collections.singletonList(Constants.CONTENT_DISTRIBUTION_MESSAGE_BATCH)
         );
         allowedReturnTypes = Map.of(
                 Constants.ON_SUBSCRIPTION_VALIDATION_DENIED,
@@ -90,12 +97,15 @@ public class ServiceDeclarationValidator {
                 Constants.ON_UNSUBSCRIPTION_VERIFICATION,
                 List.of(Constants.UNSUBSCRIPTION_VERIFICATION_SUCCESS, Constants.UNSUBSCRIPTION_VERIFICATION_ERROR),
                 Constants.ON_EVENT_NOTIFICATION,
+                List.of(Constants.ACKNOWLEDGEMENT, Constants.SUBSCRIPTION_DELETED_ERROR),
+                Constants.ON_EVENT_NOTIFICATION_BATCH,
                 List.of(Constants.ACKNOWLEDGEMENT, Constants.SUBSCRIPTION_DELETED_ERROR)
         );
         methodsWithOptionalReturnTypes = List.of(
                 Constants.ON_HUB_ERROR,
                 Constants.ON_SUBSCRIPTION_VALIDATION_DENIED,
-                Constants.ON_EVENT_NOTIFICATION
+                Constants.ON_EVENT_NOTIFICATION,
+                Constants.ON_EVENT_NOTIFICATION_BATCH
         );
     }
 
@@ -133,8 +143,10 @@ public class ServiceDeclarationValidator {
     private void executeRequiredMethodValidation(SyntaxNodeAnalysisContext context,
                                                  List<FunctionDefinitionNode> availableFunctionDeclarations,
                                                  NodeLocation location) {
+        // either `onEventNotification` or `onEventNotificationBatch` should be available to receive content
         boolean isRequiredMethodNotAvailable = availableFunctionDeclarations.stream()
-                .noneMatch(fd -> Constants.ON_EVENT_NOTIFICATION.equalsIgnoreCase(fd.functionName().toString()));
+                .noneMatch(fd -> Constants.ON_EVENT_NOTIFICATION.equalsIgnoreCase(fd.functionName().toString())
+                        || Constants.ON_EVENT_NOTIFICATION_BATCH.equalsIgnoreCase(fd.functionName().toString()));
         if (isRequiredMethodNotAvailable) {
             WebSubDiagnosticCodes errorCode = WebSubDiagnosticCodes.WEBSUB_103;
             updateContext(context, errorCode, location);
@@ -177,7 +189,10 @@ public class ServiceDeclarationValidator {
                                 String.join("", allowedParameters));
                     }
                 } else {
+                    // a record which includes `websub:ContentDistributionMessage` binds the content to its own type
                     List<String> availableParamNames = params.stream()
+                            .filter(e -> !isTypedContentDistributionMessage(
+                                    context, functionDefinition, e.typeDescriptor()))
                             .map(e -> getTypeDescription(e.typeDescriptor()))
                             .collect(Collectors.toList());
                     if (!allowedParameters.containsAll(availableParamNames)) {
@@ -199,6 +214,52 @@ public class ServiceDeclarationValidator {
         }
     }
 
+    private boolean isTypedContentDistributionMessage(SyntaxNodeAnalysisContext context,
+                                                      FunctionDefinitionNode functionDefinition,
+                                                      TypeSymbol paramType) {
+        String functionName = functionDefinition.functionName().toString();
+        if (!Constants.ON_EVENT_NOTIFICATION.equals(functionName)) {
+            return false;
+        }
+        Optional<RecordTypeSymbol> recordTypeOpt = getRecordType(paramType);
+        if (recordTypeOpt.isEmpty()) {
+            return false;
+        }
+        RecordTypeSymbol recordType = recordTypeOpt.get();
+        boolean includesContentDistributionMessage = recordType.typeInclusions().stream()
+                .anyMatch(e -> Constants.CONTENT_DISTRIBUTION_MESSAGE.equals(getTypeDescription(e)));
+        if (!includesContentDistributionMessage) {
+            return false;
+        }
+        // the content is deserialized from a `json` payload, hence it could only be bound to a subtype of `json`
+        RecordFieldSymbol contentField = recordType.fieldDescriptors().get(Constants.CONTENT_FIELD);
+        if (Objects.nonNull(contentField)) {
+            TypeSymbol contentType = contentField.typeDescriptor();
+            if (!contentType.subtypeOf(context.semanticModel().types().JSON)) {
+                // built-in types are not named, hence their signature is used instead
+                String contentTypeName = getTypeDescription(contentType);
+                WebSubDiagnosticCodes errorCode = WebSubDiagnosticCodes.WEBSUB_110;
+                updateContext(context, errorCode, functionDefinition.location(),
+                        contentTypeName.isBlank() ? contentType.signature() : contentTypeName, functionName);
+            }
+        }
+        return true;
+    }
+
+    private Optional<RecordTypeSymbol> getRecordType(TypeSymbol typeSymbol) {
+        TypeDescKind typeKind = typeSymbol.typeKind();
+        if (TypeDescKind.TYPE_REFERENCE.equals(typeKind)) {
+            return getRecordType(((TypeReferenceTypeSymbol) typeSymbol).typeDescriptor());
+        } else if (TypeDescKind.INTERSECTION.equals(typeKind)) {
+            return ((IntersectionTypeSymbol) typeSymbol).memberTypeDescriptors().stream()
+                    .filter(e -> !TypeDescKind.READONLY.equals(e.typeKind()))
+                    .findFirst().flatMap(this::getRecordType);
+        } else if (TypeDescKind.RECORD.equals(typeKind)) {
+            return Optional.of((RecordTypeSymbol) typeSymbol);
+        }
+        return Optional.empty();
+    }
+
     private void executeMethodReturnTypeValidation(SyntaxNodeAnalysisContext context,
                                                    FunctionDefinitionNode functionDefinition,
                                                    FunctionTypeSymbol typeSymbol) {
@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.websub;
+
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static io.ballerina.runtime.api.utils.StringUtils.fromString;
+
+/**
+ * {@code AsyncDeliveryQueue} is a bounded queue which holds the content distribution messages that are acknowledged to
+ * the `hub`, but yet to be delivered to the subscriber service. The queue is drained by a set of worker strands.
+ * <p>
+ * Once the queue is closed, no new messages are accepted, but the already accepted messages are still handed over to
+ * the workers, so that the queue could be drained before the listener is stopped.
+ */
+public final class AsyncDeliveryQueue {
+    private static final BString QUEUE_CAPACITY = fromString("queueCapacity");
+
+    private final int capacity;
+    private final Deque<Entry> entries = new ArrayDeque<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition drained = lock.newCondition();
+    private int inFlight;
+    private boolean closed;
+
+    private AsyncDeliveryQueue(int capacity) {
+        this.capacity = capacity;
+    }
+
+    public static AsyncDeliveryQueue create(BMap<BString, Object> asyncDeliveryConfig) {
+        int capacity = Math.max(1, asyncDeliveryConfig.getIntValue(QUEUE_CAPACITY).intValue());
+        return new AsyncDeliveryQueue(capacity);
+    }
+
+    /**
+     * Adds a message to the queue if the queue is open and not full.
+     *
+     * @param message content distribution message to be delivered
+     * @param orderingKey ordering key of the message, or {@code null} if the message is not ordered
+     * @return {@code true} if the message is accepted or else {@code false}
+     */
+    public boolean offer(Object message, String orderingKey) {
+        lock.lock();
+        try {
+            if (closed || entries.size() >= capacity) {
+                return false;
+            }
+            entries.addLast(new Entry(message, orderingKey));
+            notEmpty.signal();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Retrieves the next message, waiting until a message is available. When an ordered dispatcher is provided, the
+     * position of the message in its lane is reserved in the queue order before the message is handed over.
+     *
+     * @param dispatcher ordered dispatcher of the subscriber service, or {@code null} if the delivery is not ordered
+     * @return the next queued message, or {@code null} if the queue is closed and there are no remaining messages
+     */
+    public Entry take(OrderedDispatcher dispatcher) {
+        Entry entry;
+        lock.lock();
+        try {
+            while (entries.isEmpty() && !closed) {
+                notEmpty.awaitUninterruptibly();
+            }
+            entry = entries.pollFirst();
+            if (entry == null) {
+                return null;
+            }
+            inFlight++;
+            if (dispatcher != null && entry.orderingKey != null) {
+                entry.turn = dispatcher.reserve(entry.orderingKey);
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (entry.turn != null) {
+            entry.turn.await();
+        }
+        return entry;
+    }
+
+    /**
+     * Marks the delivery of a previously taken message as completed.
+     */
+    public void complete() {
+        lock.lock();
+        try {
+            inFlight--;
+            if (inFlight == 0 && entries.isEmpty()) {
+                drained.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Closes the queue and waits until the already accepted messages are delivered.
+     *
+     * @param timeoutNanos maximum time to wait for the queue to be drained
+     * @return {@code true} if the queue is drained within the timeout or else {@code false}
+     */
+    public boolean close(long timeoutNanos) {
+        long remainingNanos = timeoutNanos;
+        lock.lock();
+        try {
+            closed = true;
+            notEmpty.signalAll();
+            while (inFlight > 0 || !entries.isEmpty()) {
+                if (remainingNanos <= 0) {
+                    return false;
+                }
+                remainingNanos = drained.awaitNanos(remainingNanos);
+            }
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Retrieves the number of messages which are accepted, but not yet delivered to the subscriber service.
+     *
+     * @return the number of queued and in-flight messages
+     */
+    public int depth() {
+        lock.lock();
+        try {
+            return entries.size() + inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Represents a queued content distribution message.
+     */
+    public static final class Entry {
+        private final Object message;
+        private final String orderingKey;
+        private OrderedDispatcher.Turn turn;
+
+        private Entry(Object message, String orderingKey) {
+            this.message = message;
+            this.orderingKey = orderingKey;
+        }
+
+        public Object getMessage() {
+            return message;
+        }
+
+        public String getOrderingKey() {
+            return orderingKey;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.websub;
+
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.ballerina.runtime.api.utils.StringUtils.fromString;
+
+/**
+ * {@code ConcurrencyLimiter} bounds the number of content distribution requests which are processed concurrently by
+ * a subscriber service, and the number of requests which are allowed to wait for a processing slot.
+ */
+public final class ConcurrencyLimiter {
+    private static final BString MAX_CONCURRENCY = fromString("maxConcurrency");
+    private static final BString MAX_WAITING_REQUESTS = fromString("maxWaitingRequests");
+
+    private final Semaphore permits;
+    private final int maxWaitingRequests;
+    private final AtomicInteger waitingRequests = new AtomicInteger();
+
+    private ConcurrencyLimiter(int maxConcurrency, int maxWaitingRequests) {
+        this.permits = new Semaphore(maxConcurrency, true);
+        this.maxWaitingRequests = maxWaitingRequests;
+    }
+
+    public static ConcurrencyLimiter create(BMap<BString, Object> concurrencyConfig) {
+        int maxConcurrency = Math.max(1, concurrencyConfig.getIntValue(MAX_CONCURRENCY).intValue());
+        int maxWaitingRequests = Math.max(0, concurrencyConfig.getIntValue(MAX_WAITING_REQUESTS).intValue());
+        return new ConcurrencyLimiter(maxConcurrency, maxWaitingRequests);
+    }
+
+    /**
+     * Acquires a processing slot. If there are no free slots, the caller waits for one only if the waiting queue
+     * is not full.
+     *
+     * @return {@code true} if a processing slot is acquired or else {@code false}
+     */
+    public boolean tryAcquire() {
+        if (permits.tryAcquire()) {
+            return true;
+        }
+        if (waitingRequests.incrementAndGet() > maxWaitingRequests) {
+            waitingRequests.decrementAndGet();
+            return false;
+        }
+        try {
+            permits.acquire();
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            waitingRequests.decrementAndGet();
+        }
+    }
+
+    public void release() {
+        permits.release();
+    }
+}
@@ -25,16 +25,49 @@ public interface Constants {
     String PACKAGE_ORG = "ballerina";
     String PACKAGE_NAME = "websub";
 
-    String SERVICE_OBJECT = "WEBSUB_SERVICE_OBJECT";
+    String DISPATCH_DESCRIPTOR = "WEBSUB_DISPATCH_DESCRIPTOR";
+    String EVENT_BATCH_DISPATCHER = "WEBSUB_EVENT_BATCH_DISPATCHER";
+    String CONCURRENCY_LIMITER = "WEBSUB_CONCURRENCY_LIMITER";
+    String ORDERED_DISPATCHER = "WEBSUB_ORDERED_DISPATCHER";
+    String ASYNC_DELIVERY_QUEUE = "WEBSUB_ASYNC_DELIVERY_QUEUE";
+    String ORDERING_KEY = "WEBSUB_ORDERING_KEY";
+    String EVENT_NOTIFICATION_SPOOL = "WEBSUB_EVENT_NOTIFICATION_SPOOL";
+    String SPOOL_OFFSET = "WEBSUB_SPOOL_OFFSET";
+    String PAYLOAD_STORE = "WEBSUB_PAYLOAD_STORE";
+    String PAYLOAD_HOLDER = "WEBSUB_PAYLOAD_HOLDER";
+    String DELIVERY_DEDUPLICATOR = "WEBSUB_DELIVERY_DEDUPLICATOR";
+    String DEDUPLICATION_KEY = "WEBSUB_DEDUPLICATION_KEY";
+    String LAZY_CONTENT = "WEBSUB_LAZY_CONTENT";
+    String CONTENT_STREAM = "WEBSUB_CONTENT_STREAM";
     String HTTP_REQUEST = "HTTP_REQUEST";
+    String HTTP_REQUEST_DETACHMENT = "WEBSUB_HTTP_REQUEST_DETACHMENT";
+    String HEADER_SNAPSHOT = "WEBSUB_HEADER_SNAPSHOT";
+    String TOPIC_ROUTER = "WEBSUB_TOPIC_ROUTER";
+    String MAC_POOL = "WEBSUB_MAC_POOL";
 
     String SERVICE_PATH = "SERVICE_PATH";
     String SERVICE_REGISTRY = "SERVICE_REGISTRY";
+    String LEASE_RENEWAL_SCHEDULER = "WEBSUB_LEASE_RENEWAL_SCHEDULER";
+    String SUBSCRIPTION_INITIATOR = "WEBSUB_SUBSCRIPTION_INITIATOR";
     String SUBSCRIBER_CONFIG = "SUBSCRIBER_CONFIG";
 
+    String SECRET = "secret";
+    String BATCH_CONFIG = "batchConfig";
+    String CONCURRENCY_CONFIG = "concurrencyConfig";
+    String ORDERING_CONFIG = "orderingConfig";
+    String ASYNC_DELIVERY_CONFIG = "asyncDeliveryConfig";
+    String SPOOL_CONFIG = "spoolConfig";
+    String PAYLOAD_STORAGE = "payloadStorage";
+    String DETACH_HTTP_REQUEST = "detachHttpRequest";
+    String DEDUPLICATION_CONFIG = "deduplicationConfig";
+    String ROUTES = "routes";
+
     String ON_SUBSCRIPTION_VERIFICATION = "onSubscriptionVerification";
     String ON_UNSUBSCRIPTION_VERIFICATION = "onUnsubscriptionVerification";
     String ON_SUBSCRIPTION_VALIDATION_DENIED = "onSubscriptionValidationDenied";
     String ON_HUB_ERROR = "onHubError";
     String ON_EVENT_NOTIFICATION = "onEventNotification";
+    String ON_EVENT_NOTIFICATION_BATCH = "onEventNotificationBatch";
+
+    String DISPATCH_EVENT_NOTIFICATION = "dispatchEventNotification";
 }
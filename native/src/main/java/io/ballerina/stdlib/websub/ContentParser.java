@@ -0,0 +1,342 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.websub;
+
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.api.utils.JsonUtils;
+import io.ballerina.runtime.api.utils.XmlUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URLDecoder;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import static io.ballerina.runtime.api.utils.StringUtils.fromString;
+
+/**
+ * {@code ContentParser} parses the raw body of a content distribution request according to its content-type. The body
+ * is parsed directly from the buffer which was read from the request, hence it is not decoded into an intermediate
+ * {@code String} unless the content itself is textual.
+ */
+final class ContentParser {
+    private static final String APPLICATION_JSON = "application/json";
+    private static final String APPLICATION_XML = "application/xml";
+    private static final String TEXT_PLAIN = "text/plain";
+    private static final String APPLICATION_FORM_URLENCODED = "application/x-www-form-urlencoded";
+    private static final String GZIP = "gzip";
+    private static final String DEFLATE = "deflate";
+    private static final int INFLATE_BUFFER_SIZE = 8192;
+    private static final String CONTENT_TOO_LARGE_ERROR = "ContentTooLargeError";
+
+    private ContentParser() {}
+
+    /**
+     * Parses the raw request body.
+     *
+     * @param contentType media type of the request body
+     * @param charset charset of the request body
+     * @param contentEncoding {@code gzip} or {@code deflate} if the request body is compressed, or else {@code null}
+     * @param body raw request body
+     * @param maxInflatedSize maximum number of bytes to which a compressed request body could be inflated
+     * @return the parsed content or a {@code BError} if the request body could not be parsed
+     */
+    static Object parse(String contentType, Charset charset, String contentEncoding, BArray body,
+                        long maxInflatedSize) {
+        try {
+            return parseBody(contentType, charset, contentEncoding, body, maxInflatedSize);
+        } catch (ContentTooLargeException e) {
+            return createContentTooLargeError(e);
+        } catch (BError e) {
+            return e;
+        } catch (IOException | RuntimeException e) {
+            return ErrorCreator.createError(ModuleUtils.getModule(), "Error",
+                    fromString("Error occurred while parsing the content: " + e.getMessage()),
+                    ErrorCreator.createError(e), null);
+        }
+    }
+
+    /**
+     * Inflates the raw request body, so that a compressed body could be bound to a user declared content type.
+     *
+     * @param contentEncoding {@code gzip} or {@code deflate} if the request body is compressed, or else {@code null}
+     * @param body raw request body
+     * @param maxInflatedSize maximum number of bytes to which a compressed request body could be inflated
+     * @return the inflated request body or a {@code BError} if the request body could not be inflated
+     */
+    static Object decode(String contentEncoding, BArray body, long maxInflatedSize) {
+        if (Objects.isNull(contentEncoding)) {
+            return body;
+        }
+        try (InputStream content = new BoundedInputStream(
+                inflate(contentEncoding, new ByteArrayInputStream(body.getBytes())), maxInflatedSize)) {
+            return ValueCreator.createArrayValue(content.readAllBytes());
+        } catch (ContentTooLargeException e) {
+            return createContentTooLargeError(e);
+        } catch (IOException | RuntimeException e) {
+            return ErrorCreator.createError(ModuleUtils.getModule(), "Error",
+                    fromString("Error occurred while inflating the content: " + e.getMessage()),
+                    ErrorCreator.createError(e), null);
+        }
+    }
+
+    static Charset resolveCharset(Object charset) {
+        if (charset instanceof BString) {
+            try {
+                return Charset.forName(((BString) charset).getValue());
+            } catch (IllegalArgumentException e) {
+                // fallback to the default charset for an unknown charset
+            }
+        }
+        return StandardCharsets.UTF_8;
+    }
+
+    private static Object parseBody(String contentType, Charset charset, String contentEncoding, BArray body,
+                                    long maxInflatedSize) throws IOException {
+        if (Objects.isNull(contentEncoding)) {
+            // binary content is delivered as it is
+            return isBinary(contentType) ? body : parseBytes(contentType, charset, body.getBytes());
+        }
+        // the content is inflated while it is being parsed, hence the inflated JSON and XML contents are not
+        // materialized as a whole, and the inflation is bounded since a small compressed body could inflate to any size
+        try (BoundedInputStream content = new BoundedInputStream(
+                inflate(contentEncoding, new ByteArrayInputStream(body.getBytes())), maxInflatedSize)) {
+            try {
+                return parseInflatedBody(contentType, charset, content);
+            } catch (RuntimeException e) {
+                // the parsers wrap the failures of the underlying stream, hence the overflow is checked on the stream
+                if (content.isExceeded()) {
+                    throw content.createException();
+                }
+                throw e;
+            }
+        }
+    }
+
+    private static Object parseInflatedBody(String contentType, Charset charset, InputStream content)
+            throws IOException {
+        if (StandardCharsets.UTF_8.equals(charset)) {
+            if (APPLICATION_JSON.equals(contentType)) {
+                return JsonUtils.parse(content);
+            } else if (APPLICATION_XML.equals(contentType)) {
+                return XmlUtils.parse(content);
+            }
+        }
+        byte[] inflatedContent = content.readAllBytes();
+        return isBinary(contentType) ? ValueCreator.createArrayValue(inflatedContent)
+                : parseBytes(contentType, charset, inflatedContent);
+    }
+
+    private static InputStream inflate(String contentEncoding, InputStream content) throws IOException {
+        switch (contentEncoding) {
+            case GZIP:
+                return new GZIPInputStream(content, INFLATE_BUFFER_SIZE);
+            case DEFLATE:
+                // the default inflater is released when the stream is closed
+                return new InflaterInputStream(content);
+            default:
+                throw new IllegalArgumentException(
+                        String.format("Unsupported content-encoding [%s] found", contentEncoding));
+        }
+    }
+
+    private static BError createContentTooLargeError(ContentTooLargeException e) {
+        return ErrorCreator.createError(ModuleUtils.getModule(), CONTENT_TOO_LARGE_ERROR, fromString(e.getMessage()),
+                null, null);
+    }
+
+    private static boolean isBinary(String contentType) {
+        return !APPLICATION_JSON.equals(contentType) && !APPLICATION_XML.equals(contentType)
+                && !TEXT_PLAIN.equals(contentType) && !APPLICATION_FORM_URLENCODED.equals(contentType);
+    }
+
+    private static Object parseBytes(String contentType, Charset charset, byte[] content) {
+        boolean isUtf8 = StandardCharsets.UTF_8.equals(charset);
+        switch (contentType) {
+            case APPLICATION_JSON:
+                return isUtf8 ? JsonUtils.parse(new ByteArrayInputStream(content))
+                        : JsonUtils.parse(new String(content, charset));
+            case APPLICATION_XML:
+                return isUtf8 ? XmlUtils.parse(new ByteArrayInputStream(content))
+                        : XmlUtils.parse(new String(content, charset));
+            case TEXT_PLAIN:
+                return fromString(new String(content, charset));
+            default:
+                return parseFormContent(content, charset);
+        }
+    }
+
+    private static BMap<BString, Object> parseFormContent(byte[] body, Charset charset) {
+        BMap<BString, Object> formContent = ValueCreator.createMapValue(
+                TypeCreator.createMapType(PredefinedTypes.TYPE_STRING));
+        if (!isAsciiCompatible(charset)) {
+            // the percent-escapes could only be decoded from the raw bytes for the ASCII compatible charsets
+            for (String param : new String(body, charset).split("&")) {
+                if (param.isEmpty()) {
+                    continue;
+                }
+                int separator = param.indexOf('=');
+                String key = separator < 0 ? param : param.substring(0, separator);
+                String value = separator < 0 ? "" : param.substring(separator + 1);
+                formContent.put(fromString(URLDecoder.decode(key, charset)),
+                        fromString(URLDecoder.decode(value, charset)));
+            }
+            return formContent;
+        }
+        // the body is decoded in a single pass, and the decoded bytes of the current key and value are written back
+        // to the same scratch buffer, hence no intermediate strings are created
+        byte[] decoded = new byte[body.length];
+        int length = 0;
+        int keyLength = -1;
+        for (int i = 0; i <= body.length; i++) {
+            byte current = i < body.length ? body[i] : (byte) '&';
+            switch (current) {
+                case '&':
+                    if (length > 0 || keyLength >= 0) {
+                        String key = new String(decoded, 0, keyLength < 0 ? length : keyLength, charset);
+                        String value = keyLength < 0 ? "" : new String(decoded, keyLength, length - keyLength, charset);
+                        formContent.put(fromString(key), fromString(value));
+                    }
+                    length = 0;
+                    keyLength = -1;
+                    break;
+                case '=':
+                    if (keyLength < 0) {
+                        keyLength = length;
+                    } else {
+                        decoded[length++] = current;
+                    }
+                    break;
+                case '+':
+                    decoded[length++] = ' ';
+                    break;
+                case '%':
+                    if (i + 2 >= body.length) {
+                        throw new IllegalArgumentException("Incomplete trailing escape (%) pattern");
+                    }
+                    decoded[length++] = (byte) ((hexDigit(body[i + 1]) << 4) | hexDigit(body[i + 2]));
+                    i += 2;
+                    break;
+                default:
+                    decoded[length++] = current;
+            }
+        }
+        return formContent;
+    }
+
+    private static int hexDigit(byte value) {
+        int digit = Character.digit(value, 16);
+        if (digit < 0) {
+            throw new IllegalArgumentException("Illegal hex characters in escape (%) pattern");
+        }
+        return digit;
+    }
+
+    private static boolean isAsciiCompatible(Charset charset) {
+        return StandardCharsets.UTF_8.equals(charset) || StandardCharsets.US_ASCII.equals(charset)
+                || StandardCharsets.ISO_8859_1.equals(charset);
+    }
+
+    /**
+     * {@code BoundedInputStream} fails the inflation once more than the allowed number of bytes are read from the
+     * inflating stream.
+     */
+    private static final class BoundedInputStream extends FilterInputStream {
+        private final long limit;
+        private long count;
+        private boolean exceeded;
+
+        BoundedInputStream(InputStream content, long limit) {
+            super(content);
+            this.limit = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int value = super.read();
+            if (value >= 0) {
+                count(1);
+            }
+            return value;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            // at most one byte beyond the limit is requested, so that an overflow is detected without inflating more
+            long remaining = limit - count + 1;
+            int bytesRead = super.read(buffer, offset, (int) Math.min(length, remaining));
+            if (bytesRead > 0) {
+                count(bytesRead);
+            }
+            return bytesRead;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(Math.min(n, limit - count + 1));
+            count(skipped);
+            return skipped;
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        boolean isExceeded() {
+            return exceeded;
+        }
+
+        ContentTooLargeException createException() {
+            return new ContentTooLargeException(
+                    String.format("Inflated content exceeds the maximum size of %d bytes", limit));
+        }
+
+        private void count(long bytesRead) throws ContentTooLargeException {
+            count += bytesRead;
+            if (count > limit) {
+                exceeded = true;
+                throw createException();
+            }
+        }
+    }
+
+    /**
+     * {@code ContentTooLargeException} is thrown when a compressed content inflates beyond the allowed size.
+     */
+    private static final class ContentTooLargeException extends IOException {
+        private static final long serialVersionUID = 1L;
+
+        ContentTooLargeException(String message) {
+            super(message);
+        }
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.websub;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * {@code ContentVerifier} verifies the {@code X-Hub-Signature} of a content distribution request. The content could be
+ * fed incrementally, so that a streamed request body could be verified without buffering it. Initialized {@code Mac}
+ * instances are pooled per algorithm in a {@link MacPool} owned by the subscriber service, hence the key schedule is
+ * not recomputed for every request, and the pooled instances are released together with the service.
+ */
+final class ContentVerifier {
+    private final MacPool macPool;
+    private final String algorithm;
+    private final Mac mac;
+    private final byte[] expectedSignature;
+
+    private ContentVerifier(MacPool macPool, String algorithm, Mac mac, byte[] expectedSignature) {
+        this.macPool = macPool;
+        this.algorithm = algorithm;
+        this.mac = mac;
+        this.expectedSignature = expectedSignature;
+    }
+
+    /**
+     * Creates a verifier for the provided {@code X-Hub-Signature} header value.
+     *
+     * @param signatureHeader value of the {@code X-Hub-Signature} header in the {@code method=signature} format
+     * @param macPool         pool of the {@code Mac} instances initialized with the pre-shared subscriber secret key
+     * @return the created verifier
+     * @throws IllegalArgumentException if the hashing-method of the signature is not recognized
+     */
+    static ContentVerifier create(String signatureHeader, MacPool macPool) {
+        int separatorIdx = signatureHeader.indexOf('=');
+        String method = separatorIdx < 0 ? signatureHeader : signatureHeader.substring(0, separatorIdx);
+        String signature = separatorIdx < 0 ? "" : signatureHeader.substring(separatorIdx + 1);
+        String algorithm = switch (method) {
+            case "sha1" -> "HmacSHA1";
+            case "sha256" -> "HmacSHA256";
+            case "sha384" -> "HmacSHA384";
+            case "sha512" -> "HmacSHA512";
+            default -> throw new IllegalArgumentException(
+                    String.format("Unrecognized hashning-method [%s] found", method));
+        };
+        return new ContentVerifier(macPool, algorithm, macPool.borrow(algorithm), decodeSignature(signature));
+    }
+
+    /**
+     * Verifies the complete content against the provided {@code X-Hub-Signature} header value.
+     *
+     * @param signatureHeader value of the {@code X-Hub-Signature} header in the {@code method=signature} format
+     * @param macPool         pool of the {@code Mac} instances initialized with the pre-shared subscriber secret key
+     * @param content         complete content of the request
+     * @return {@code true} if the content matches the signature or else {@code false}
+     * @throws IllegalArgumentException if the hashing-method of the signature is not recognized
+     */
+    static boolean verify(String signatureHeader, MacPool macPool, byte[] content) {
+        ContentVerifier verifier = create(signatureHeader, macPool);
+        verifier.update(content);
+        return verifier.verify();
+    }
+
+    private static byte[] decodeSignature(String signature) {
+        try {
+            return HexFormat.of().parseHex(signature);
+        } catch (IllegalArgumentException e) {
+            // a malformed signature could never match, hence it is treated as an empty signature
+            return new byte[0];
+        }
+    }
+
+    void update(byte[] chunk) {
+        mac.update(chunk);
+    }
+
+    /**
+     * Completes the verification of the content which has been fed to this verifier. The verifier should not be used
+     * afterwards, since its {@code Mac} is returned to the pool.
+     *
+     * @return {@code true} if the content matches the expected signature or else {@code false}
+     */
+    boolean verify() {
+        // `doFinal` resets the `Mac`, hence it could be reused by another verifier right away
+        boolean verified = MessageDigest.isEqual(expectedSignature, mac.doFinal());
+        macPool.release(algorithm, mac);
+        return verified;
+    }
+
+    /**
+     * {@code MacPool} pools the idle {@code Mac} instances initialized with the secret of a single subscriber service.
+     * The pool holds at most {@value #MAX_IDLE_MACS} instances for each of the supported algorithms.
+     */
+    static final class MacPool {
+        private static final int MAX_IDLE_MACS = 32;
+
+        private final byte[] secret;
+        private final Map<String, BlockingQueue<Mac>> idleMacs = new ConcurrentHashMap<>();
+
+        MacPool(String secret) {
+            this.secret = secret.getBytes(StandardCharsets.UTF_8);
+        }
+
+        private Mac borrow(String algorithm) {
+            Mac mac = idleMacs.computeIfAbsent(algorithm, k -> new ArrayBlockingQueue<>(MAX_IDLE_MACS)).poll();
+            if (mac != null) {
+                return mac;
+            }
+            try {
+                mac = Mac.getInstance(algorithm);
+                mac.init(new SecretKeySpec(secret, algorithm));
+                return mac;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalArgumentException(e.getMessage(), e);
+            }
+        }
+
+        private void release(String algorithm, Mac mac) {
+            // the instance is dropped when the pool is full
+            idleMacs.get(algorithm).offer(mac);
+        }
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.websub;
+
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static io.ballerina.runtime.api.utils.StringUtils.fromString;
+
+/**
+ * {@code DeliveryDeduplicator} suppresses the duplicate deliveries of the content distribution requests, which are
+ * usually the retries of the `hub` when an acknowledgement is slow or lost. A delivery is identified either by its
+ * delivery-id or by a 64-bit hash of its topic and content, and the identifiers are retained in a bounded cache until
+ * their TTL expires.
+ */
+final class DeliveryDeduplicator {
+    private static final BString CAPACITY = fromString("capacity");
+    private static final BString TTL = fromString("ttl");
+    private static final BigDecimal NANOS_PER_SECOND = BigDecimal.valueOf(TimeUnit.SECONDS.toNanos(1));
+    private static final long HASH_PRIME_1 = 0x9E3779B185EBCA87L;
+    private static final long HASH_PRIME_2 = 0xC2B2AE3D27D4EB4FL;
+    private static final long HASH_PRIME_3 = 0x165667B19E3779F9L;
+
+    private final int capacity;
+    private final long ttlNanos;
+    private final ReentrantLock lock = new ReentrantLock();
+    // entries are kept in their insertion order, hence the eldest entry is the first to expire
+    private final LinkedHashMap<Object, Long> expiryTimes = new LinkedHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    private DeliveryDeduplicator(int capacity, long ttlNanos) {
+        this.capacity = capacity;
+        this.ttlNanos = ttlNanos;
+    }
+
+    static DeliveryDeduplicator create(BMap<BString, Object> deduplicationConfig) {
+        int capacity = (int) Math.max(1, Math.min(Integer.MAX_VALUE, deduplicationConfig.getIntValue(CAPACITY)));
+        BDecimal ttl = (BDecimal) deduplicationConfig.get(TTL);
+        long ttlNanos = Math.max(0, ttl.decimalValue().multiply(NANOS_PER_SECOND).longValue());
+        return new DeliveryDeduplicator(capacity, ttlNanos);
+    }
+
+    /**
+     * Derives the key of a delivery which does not have a delivery-id.
+     *
+     * @param topic   topic of the delivery
+     * @param content raw content of the delivery
+     * @return 64-bit hash of the topic and the content
+     */
+    static Object contentKey(String topic, byte[] content) {
+        return hash(hash(HASH_PRIME_3, topic.getBytes(StandardCharsets.UTF_8)), content);
+    }
+
+    /**
+     * Checks whether a delivery with the provided key has already been seen, and records the key if it has not.
+     *
+     * @param key delivery-id of the delivery, or the key derived via {@code contentKey}
+     * @return {@code true} if the delivery is a duplicate or else {@code false}
+     */
+    boolean isDuplicate(Object key) {
+        long now = System.nanoTime();
+        lock.lock();
+        try {
+            evictExpired(now);
+            Long expiryTime = expiryTimes.get(key);
+            if (expiryTime != null) {
+                hits.increment();
+                return true;
+            }
+            misses.increment();
+            expiryTimes.put(key, now + ttlNanos);
+            if (expiryTimes.size() > capacity) {
+                Iterator<Object> keys = expiryTimes.keySet().iterator();
+                keys.next();
+                keys.remove();
+            }
+            return false;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes a recorded key, so that a delivery which is not accepted could be delivered when the `hub` retries it.
+     *
+     * @param key delivery key
+     */
+    void forget(Object key) {
+        lock.lock();
+        try {
+            expiryTimes.remove(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    long getHits() {
+        return hits.sum();
+    }
+
+    long getMisses() {
+        return misses.sum();
+    }
+
+    private void evictExpired(long now) {
+        Iterator<Map.Entry<Object, Long>> entries = expiryTimes.entrySet().iterator();
+        while (entries.hasNext() && entries.next().getValue() - now <= 0) {
+            entries.remove();
+        }
+    }
+
+    private static long hash(long seed, byte[] data) {
+        ByteBuffer buffer = ByteBuffer.wrap(data).order(ByteOrder.LITTLE_ENDIAN);
+        long hash = seed ^ (data.length * HASH_PRIME_1);
+        while (buffer.remaining() >= Long.BYTES) {
+            hash = mix(hash, buffer.getLong());
+        }
+        long tail = 0;
+        for (int shift = 0; buffer.hasRemaining(); shift += Byte.SIZE) {
+            tail |= (buffer.get() & 0xFFL) << shift;
+        }
+        hash = mix(hash, tail);
+        // final avalanche of the accumulated hash
+        hash ^= hash >>> 33;
+        hash *= HASH_PRIME_2;
+        hash ^= hash >>> 29;
+        hash *= HASH_PRIME_3;
+        return hash ^ (hash >>> 32);
+    }
+
+    private static long mix(long hash, long value) {
+        long mixed = Long.rotateLeft(value * HASH_PRIME_2, 31) * HASH_PRIME_1;
+        return Long.rotateLeft(hash ^ mixed, 27) * HASH_PRIME_1 + HASH_PRIME_3;
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.websub;
+
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+import static io.ballerina.runtime.api.utils.StringUtils.fromString;
+
+/**
+ * {@code EventBatchDispatcher} groups the concurrently received content distribution messages into batches which
+ * are bounded by a maximum size and a maximum linger time.
+ * <p>
+ * The first message of a batch makes its caller the batch owner. The owner waits until the batch is filled or the
+ * linger time elapses, then delivers the whole batch and shares the result with the callers of the other messages
+ * in the same batch.
+ */
+public final class EventBatchDispatcher {
+    private static final BString MAX_BATCH_SIZE = fromString("maxBatchSize");
+    private static final BString MAX_LINGER_TIME = fromString("maxLingerTime");
+    private static final BigDecimal NANOS_PER_SECOND = BigDecimal.valueOf(TimeUnit.SECONDS.toNanos(1));
+
+    private final int maxBatchSize;
+    private final long maxLingerNanos;
+    private final ReentrantLock lock = new ReentrantLock();
+    private Batch currentBatch;
+
+    private EventBatchDispatcher(int maxBatchSize, long maxLingerNanos) {
+        this.maxBatchSize = maxBatchSize;
+        this.maxLingerNanos = maxLingerNanos;
+    }
+
+    public static EventBatchDispatcher create(BMap<BString, Object> batchConfig) {
+        int maxBatchSize = Math.max(1, batchConfig.getIntValue(MAX_BATCH_SIZE).intValue());
+        BigDecimal maxLingerTime = ((BDecimal) batchConfig.get(MAX_LINGER_TIME)).decimalValue();
+        long maxLingerNanos = Math.max(0, maxLingerTime.multiply(NANOS_PER_SECOND).longValue());
+        return new EventBatchDispatcher(maxBatchSize, maxLingerNanos);
+    }
+
+    /**
+     * Adds the message to the current batch and waits until the batch is delivered.
+     *
+     * @param message content distribution message to be delivered
+     * @param delivery function which delivers a completed batch to the subscriber service
+     * @return result of the batch delivery
+     */
+    public Object dispatch(Object message, Function<List<Object>, Object> delivery) {
+        Batch batch;
+        boolean isBatchOwner = false;
+        lock.lock();
+        try {
+            if (currentBatch == null) {
+                currentBatch = new Batch();
+                isBatchOwner = true;
+            }
+            batch = currentBatch;
+            batch.messages.add(message);
+            if (batch.messages.size() >= maxBatchSize) {
+                currentBatch = null;
+                batch.filled.countDown();
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (isBatchOwner) {
+            return deliver(batch, delivery);
+        }
+        try {
+            return batch.result.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof BError) {
+                throw (BError) cause;
+            }
+            throw ErrorCreator.createError(cause);
+        }
+    }
+
+    private Object deliver(Batch batch, Function<List<Object>, Object> delivery) {
+        try {
+            batch.filled.await(maxLingerNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        lock.lock();
+        try {
+            // seal the batch if it is not already sealed due to reaching the maximum batch size
+            if (currentBatch == batch) {
+                currentBatch = null;
+            }
+        } finally {
+            lock.unlock();
+        }
+        try {
+            Object result = delivery.apply(batch.messages);
+            batch.result.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            batch.result.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private static final class Batch {
+        private final List<Object> messages = new ArrayList<>();
+        private final CountDownLatch filled = new CountDownLatch(1);
+        private final CompletableFuture<Object> result = new CompletableFuture<>();
+    }
+}
@@ -0,0 +1,356 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.websub;
+
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+import static io.ballerina.runtime.api.utils.StringUtils.fromString;
+
+/**
+ * {@code EventNotificationSpool} is an append-only log which persists the accepted content distribution messages until
+ * they are delivered to the subscriber service.
+ * <p>
+ * The log is made of memory-mapped segment files, named after the offset of their first record. Each record is framed
+ * with its length and CRC32 checksum, so that a partially written record is detected when the log is recovered. The
+ * offset of the oldest record which is not yet delivered is persisted as the committed offset, and the records from
+ * the committed offset onwards are recovered when the spool is opened. Since the records could be delivered out of
+ * order, a record after the committed offset could be recovered even if it has been already delivered.
+ */
+public final class EventNotificationSpool {
+    private static final BString DIRECTORY = fromString("directory");
+    private static final BString SEGMENT_SIZE = fromString("segmentSize");
+    private static final String SEGMENT_FILE_SUFFIX = ".log";
+    private static final String COMMITTED_OFFSET_FILE = "committed.offset";
+    private static final int FRAME_HEADER_SIZE = Integer.BYTES * 2;
+
+    private final Path directory;
+    private final int segmentSize;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Deque<Long> segmentBaseOffsets = new ArrayDeque<>();
+    private final TreeSet<Long> uncommittedOffsets = new TreeSet<>();
+    private final MappedByteBuffer committedOffsetBuffer;
+    private final Deque<Record> recoveredRecords = new ArrayDeque<>();
+    private MappedByteBuffer activeSegment;
+    private long activeSegmentBaseOffset;
+    private long committedOffset;
+
+    private EventNotificationSpool(Path directory, int segmentSize) throws IOException {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        Files.createDirectories(directory);
+        try (FileChannel channel = FileChannel.open(directory.resolve(COMMITTED_OFFSET_FILE),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            this.committedOffsetBuffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, Long.BYTES);
+        }
+        this.committedOffset = committedOffsetBuffer.getLong(0);
+        recover();
+    }
+
+    public static EventNotificationSpool open(BMap<BString, Object> spoolConfig) throws IOException {
+        Path directory = Path.of(spoolConfig.getStringValue(DIRECTORY).getValue());
+        int segmentSize = (int) Math.min(Integer.MAX_VALUE,
+                Math.max(FRAME_HEADER_SIZE * 2, spoolConfig.getIntValue(SEGMENT_SIZE)));
+        return new EventNotificationSpool(directory, segmentSize);
+    }
+
+    private void recover() throws IOException {
+        List<Long> baseOffsets = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.map(file -> file.getFileName().toString())
+                    .filter(name -> name.endsWith(SEGMENT_FILE_SUFFIX))
+                    .map(name -> Long.parseLong(name.substring(0, name.length() - SEGMENT_FILE_SUFFIX.length())))
+                    .forEach(baseOffsets::add);
+        }
+        Collections.sort(baseOffsets);
+        if (baseOffsets.isEmpty()) {
+            openSegment(committedOffset);
+            return;
+        }
+        for (int i = 0; i < baseOffsets.size(); i++) {
+            long baseOffset = baseOffsets.get(i);
+            boolean isLastSegment = i == baseOffsets.size() - 1;
+            if (!isLastSegment && baseOffsets.get(i + 1) <= committedOffset) {
+                // every record in this segment is already committed
+                Files.deleteIfExists(segmentPath(baseOffset));
+                continue;
+            }
+            MappedByteBuffer segment = mapSegment(baseOffset);
+            segment.position(scanSegment(segment, baseOffset));
+            segmentBaseOffsets.addLast(baseOffset);
+            if (isLastSegment) {
+                activeSegment = segment;
+                activeSegmentBaseOffset = baseOffset;
+            }
+        }
+    }
+
+    private int scanSegment(MappedByteBuffer segment, long baseOffset) {
+        int position = 0;
+        while (position + FRAME_HEADER_SIZE <= segment.limit()) {
+            int length = segment.getInt(position);
+            if (length <= 0 || position + FRAME_HEADER_SIZE + length > segment.limit()) {
+                break;
+            }
+            int checksum = segment.getInt(position + Integer.BYTES);
+            ByteBuffer data = segment.slice(position + FRAME_HEADER_SIZE, length);
+            if (checksum != checksum(data.duplicate())) {
+                // a partially written record, which marks the end of the log
+                break;
+            }
+            long offset = baseOffset + position;
+            if (offset >= committedOffset) {
+                uncommittedOffsets.add(offset);
+                recoveredRecords.addLast(decode(offset, data));
+            }
+            position += FRAME_HEADER_SIZE + length;
+        }
+        return position;
+    }
+
+    /**
+     * Appends a content distribution message to the log.
+     *
+     * @param headers request headers of the content distribution message
+     * @param payload raw request body of the content distribution message
+     * @return the offset of the appended record
+     * @throws IOException if the record could not be written to the log
+     */
+    public long append(BMap<BString, Object> headers, byte[] payload) throws IOException {
+        List<byte[][]> encodedHeaders = encodeHeaders(headers);
+        int length = encodedLength(encodedHeaders, payload);
+        if (FRAME_HEADER_SIZE + length > segmentSize) {
+            throw new IOException("Content distribution message of " + length +
+                    " bytes does not fit into a spool segment of " + segmentSize + " bytes");
+        }
+        lock.lock();
+        try {
+            if (activeSegment.remaining() < FRAME_HEADER_SIZE + length) {
+                openSegment(activeSegmentBaseOffset + activeSegment.position());
+            }
+            int position = activeSegment.position();
+            ByteBuffer data = activeSegment.slice(position + FRAME_HEADER_SIZE, length);
+            encode(data, encodedHeaders, payload);
+            activeSegment.putInt(position + Integer.BYTES, checksum(activeSegment.slice(
+                    position + FRAME_HEADER_SIZE, length)));
+            // the length is written last, so that the record becomes visible only when it is completely written
+            activeSegment.putInt(position, length);
+            int nextPosition = position + FRAME_HEADER_SIZE + length;
+            if (nextPosition + FRAME_HEADER_SIZE <= activeSegment.limit()) {
+                activeSegment.putInt(nextPosition, 0);
+            }
+            activeSegment.position(nextPosition);
+            long offset = activeSegmentBaseOffset + position;
+            uncommittedOffsets.add(offset);
+            return offset;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Marks the record of the provided offset as delivered, and advances the committed offset up to the oldest record
+     * which is not yet delivered.
+     *
+     * @param offset the offset of the delivered record
+     * @throws IOException if a fully committed segment could not be removed
+     */
+    public void commit(long offset) throws IOException {
+        lock.lock();
+        try {
+            if (!uncommittedOffsets.remove(offset)) {
+                return;
+            }
+            long newCommittedOffset = uncommittedOffsets.isEmpty()
+                    ? activeSegmentBaseOffset + activeSegment.position() : uncommittedOffsets.first();
+            if (newCommittedOffset <= committedOffset) {
+                return;
+            }
+            committedOffset = newCommittedOffset;
+            committedOffsetBuffer.putLong(0, committedOffset);
+            // remove the segments, except the active one, of which all the records are committed
+            while (segmentBaseOffsets.size() > 1) {
+                long baseOffset = segmentBaseOffsets.removeFirst();
+                long nextBaseOffset = segmentBaseOffsets.peekFirst();
+                if (nextBaseOffset > committedOffset) {
+                    segmentBaseOffsets.addFirst(baseOffset);
+                    break;
+                }
+                Files.deleteIfExists(segmentPath(baseOffset));
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Retrieves the next record which was not delivered before the spool was previously closed. The recovered records
+     * are handed over only once, in their order in the log.
+     *
+     * @return the next recovered record, or {@code null} if there are no more recovered records
+     */
+    public Record pollRecoveredRecord() {
+        lock.lock();
+        try {
+            return recoveredRecords.pollFirst();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void openSegment(long baseOffset) throws IOException {
+        activeSegment = mapSegment(baseOffset);
+        activeSegmentBaseOffset = baseOffset;
+        segmentBaseOffsets.addLast(baseOffset);
+    }
+
+    private MappedByteBuffer mapSegment(long baseOffset) throws IOException {
+        Path segmentPath = segmentPath(baseOffset);
+        try (FileChannel channel = FileChannel.open(segmentPath, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long size = Math.max(channel.size(), segmentSize);
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        }
+    }
+
+    private Path segmentPath(long baseOffset) {
+        return directory.resolve(String.format("%020d%s", baseOffset, SEGMENT_FILE_SUFFIX));
+    }
+
+    private static int checksum(ByteBuffer data) {
+        CRC32 crc = new CRC32();
+        crc.update(data);
+        return (int) crc.getValue();
+    }
+
+    // every header is encoded as an array of which the first element is the header name followed by its values
+    private static List<byte[][]> encodeHeaders(BMap<BString, Object> headers) {
+        List<byte[][]> encodedHeaders = new ArrayList<>(headers.size());
+        for (Map.Entry<BString, Object> header : headers.entrySet()) {
+            Object value = header.getValue();
+            String[] values = value instanceof BArray ? ((BArray) value).getStringArray()
+                    : new String[]{((BString) value).getValue()};
+            byte[][] encodedHeader = new byte[values.length + 1][];
+            encodedHeader[0] = header.getKey().getValue().getBytes(StandardCharsets.UTF_8);
+            for (int i = 0; i < values.length; i++) {
+                encodedHeader[i + 1] = values[i].getBytes(StandardCharsets.UTF_8);
+            }
+            encodedHeaders.add(encodedHeader);
+        }
+        return encodedHeaders;
+    }
+
+    // a record is encoded as: header-count, [name, value-count, [value]], payload, where the strings and the payload
+    // are prefixed with their length
+    private static int encodedLength(List<byte[][]> headers, byte[] payload) {
+        int length = Integer.BYTES;
+        for (byte[][] header : headers) {
+            length += Integer.BYTES;
+            for (byte[] part : header) {
+                length += Integer.BYTES + part.length;
+            }
+        }
+        return length + Integer.BYTES + payload.length;
+    }
+
+    private static void encode(ByteBuffer data, List<byte[][]> headers, byte[] payload) {
+        data.putInt(headers.size());
+        for (byte[][] header : headers) {
+            putBytes(data, header[0]);
+            data.putInt(header.length - 1);
+            for (int i = 1; i < header.length; i++) {
+                putBytes(data, header[i]);
+            }
+        }
+        putBytes(data, payload);
+    }
+
+    private static Record decode(long offset, ByteBuffer data) {
+        int headerCount = data.getInt();
+        Map<String, String[]> headers = new LinkedHashMap<>();
+        for (int i = 0; i < headerCount; i++) {
+            String name = new String(getBytes(data), StandardCharsets.UTF_8);
+            String[] values = new String[data.getInt()];
+            for (int j = 0; j < values.length; j++) {
+                values[j] = new String(getBytes(data), StandardCharsets.UTF_8);
+            }
+            headers.put(name, values);
+        }
+        return new Record(offset, headers, getBytes(data));
+    }
+
+    private static void putBytes(ByteBuffer data, byte[] bytes) {
+        data.putInt(bytes.length);
+        data.put(bytes);
+    }
+
+    private static byte[] getBytes(ByteBuffer data) {
+        byte[] bytes = new byte[data.getInt()];
+        data.get(bytes);
+        return bytes;
+    }
+
+    /**
+     * Represents a content distribution message recovered from the log.
+     */
+    public static final class Record {
+        private final long offset;
+        private final Map<String, String[]> headers;
+        private final byte[] payload;
+
+        private Record(long offset, Map<String, String[]> headers, byte[] payload) {
+            this.offset = offset;
+            this.headers = headers;
+            this.payload = payload;
+        }
+
+        public long getOffset() {
+            return offset;
+        }
+
+        public Map<String, String[]> getHeaders() {
+            return headers;
+        }
+
+        public byte[] getPayload() {
+            return payload;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.websub;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * {@code HeaderSnapshot} is an immutable snapshot of the headers of a content distribution message. It replaces the
+ * original {@code http:Request} once the message is delivered, so that the request, together with its entity and
+ * buffers, is not retained by the messages kept by the subscriber service.
+ */
+final class HeaderSnapshot {
+    private final Map<String, BString[]> headers;
+
+    private HeaderSnapshot(Map<String, BString[]> headers) {
+        this.headers = headers;
+    }
+
+    /**
+     * Creates a snapshot of the provided message headers.
+     *
+     * @param headers headers of the content distribution message, which could be {@code null}
+     * @return the created snapshot
+     */
+    static HeaderSnapshot create(BMap<BString, Object> headers) {
+        if (Objects.isNull(headers)) {
+            return new HeaderSnapshot(Map.of());
+        }
+        Map<String, BString[]> snapshot = new HashMap<>(headers.size());
+        for (Map.Entry<BString, Object> header : headers.entrySet()) {
+            Object value = header.getValue();
+            BString[] values = value instanceof BArray ? toBStringArray((BArray) value)
+                    : new BString[]{(BString) value};
+            // HTTP header names are case-insensitive
+            snapshot.put(header.getKey().getValue().toLowerCase(Locale.ROOT), values);
+        }
+        return new HeaderSnapshot(Map.copyOf(snapshot));
+    }
+
+    private static BString[] toBStringArray(BArray values) {
+        BString[] bValues = new BString[values.size()];
+        for (int i = 0; i < bValues.length; i++) {
+            bValues[i] = values.getBString(i);
+        }
+        return bValues;
+    }
+
+    /**
+     * Retrieves the values of the provided header.
+     *
+     * @param headerName name of the header
+     * @return the header values as a {@code string[]}, or {@code null} if the header is not available
+     */
+    BArray getValues(String headerName) {
+        BString[] values = headers.get(headerName.toLowerCase(Locale.ROOT));
+        return Objects.isNull(values) ? null : ValueCreator.createArrayValue(values.clone());
+    }
+}
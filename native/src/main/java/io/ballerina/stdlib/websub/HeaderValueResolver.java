@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.websub;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import static io.ballerina.runtime.api.utils.StringUtils.fromString;
+
+/**
+ * {@code HeaderValueResolver} resolves the recurring header values of the content distribution requests, such as the
+ * {@code Content-Type} and the {@code Link} headers. The resolved values are interned, hence classifying a request
+ * with a previously seen header value is a single lookup which does not allocate.
+ */
+final class HeaderValueResolver {
+    private static final int CACHE_CAPACITY = 256;
+    private static final String CONTENT_TYPE_DESCRIPTOR = "ContentTypeDescriptor";
+    private static final String MEDIA_TYPE = "mediaType";
+    private static final String CHARSET = "charset";
+    private static final String SUPPORTED = "supported";
+    private static final String REL = "rel";
+    private static final String SELF = "self";
+    private static final Set<String> SUPPORTED_MEDIA_TYPES = Set.of("application/json", "application/xml",
+            "text/plain", "application/octet-stream", "application/x-www-form-urlencoded");
+
+    private static final InterningCache<BMap<BString, Object>> CONTENT_TYPES = new InterningCache<>(CACHE_CAPACITY);
+    private static final InterningCache<BString> TOPICS = new InterningCache<>(CACHE_CAPACITY);
+
+    private HeaderValueResolver() {}
+
+    /**
+     * Resolves the media type and the charset of a {@code Content-Type} header value.
+     *
+     * @param contentType raw {@code Content-Type} header value
+     * @return a read-only {@code ContentTypeDescriptor} record
+     */
+    static BMap<BString, Object> resolveContentType(String contentType) {
+        return CONTENT_TYPES.get(contentType, HeaderValueResolver::createContentTypeDescriptor);
+    }
+
+    private static BMap<BString, Object> createContentTypeDescriptor(String contentType) {
+        String[] segments = contentType.split(";");
+        String mediaType = segments[0].trim().toLowerCase(Locale.ROOT);
+        String charset = null;
+        for (int i = 1; i < segments.length; i++) {
+            int separatorIdx = segments[i].indexOf('=');
+            if (separatorIdx > 0 && CHARSET.equalsIgnoreCase(segments[i].substring(0, separatorIdx).trim())) {
+                charset = unquote(segments[i].substring(separatorIdx + 1).trim());
+            }
+        }
+        Map<String, Object> fields = new HashMap<>();
+        fields.put(MEDIA_TYPE, fromString(mediaType));
+        fields.put(CHARSET, charset == null ? null : fromString(charset));
+        fields.put(SUPPORTED, SUPPORTED_MEDIA_TYPES.contains(mediaType));
+        return ValueCreator.createReadonlyRecordValue(ModuleUtils.getModule(), CONTENT_TYPE_DESCRIPTOR, fields);
+    }
+
+    private static String unquote(String value) {
+        if (value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")) {
+            return value.substring(1, value.length() - 1);
+        }
+        return value;
+    }
+
+    /**
+     * Resolves the {@code topic} URL advertised in the {@code Link} headers, which is the link with the {@code self}
+     * relation type. The relation types are matched case-insensitively, regardless of the quoting of the {@code rel}
+     * parameter value.
+     *
+     * @param linkHeaders values of the {@code Link} headers
+     * @return the {@code topic} URL if it is available, or else an empty string
+     */
+    static BString resolveTopic(BArray linkHeaders) {
+        for (int i = 0; i < linkHeaders.size(); i++) {
+            BString topic = TOPICS.get(linkHeaders.getBString(i).getValue(), HeaderValueResolver::extractTopic);
+            if (!topic.getValue().isEmpty()) {
+                return topic;
+            }
+        }
+        return fromString("");
+    }
+
+    private static BString extractTopic(String linkHeader) {
+        int length = linkHeader.length();
+        int pos = 0;
+        while (pos < length) {
+            pos = skipWhitespace(linkHeader, pos);
+            if (pos < length && linkHeader.charAt(pos) == ',') {
+                pos++;
+                continue;
+            }
+            // the URI reference is read first, hence the commas and semicolons within it are not separators
+            if (pos >= length || linkHeader.charAt(pos) != '<') {
+                pos = skipLinkValue(linkHeader, pos);
+                continue;
+            }
+            int uriEndIdx = linkHeader.indexOf('>', pos + 1);
+            if (uriEndIdx < 0) {
+                break;
+            }
+            String uri = linkHeader.substring(pos + 1, uriEndIdx).trim();
+            pos = uriEndIdx + 1;
+            String rel = null;
+            while (true) {
+                pos = skipWhitespace(linkHeader, pos);
+                if (pos >= length || linkHeader.charAt(pos) != ';') {
+                    break;
+                }
+                pos = skipWhitespace(linkHeader, pos + 1);
+                int nameStartIdx = pos;
+                while (pos < length && "=;,".indexOf(linkHeader.charAt(pos)) < 0
+                        && !Character.isWhitespace(linkHeader.charAt(pos))) {
+                    pos++;
+                }
+                String name = linkHeader.substring(nameStartIdx, pos);
+                pos = skipWhitespace(linkHeader, pos);
+                String value = "";
+                if (pos < length && linkHeader.charAt(pos) == '=') {
+                    pos = skipWhitespace(linkHeader, pos + 1);
+                    StringBuilder valueBuilder = new StringBuilder();
+                    pos = readParameterValue(linkHeader, pos, valueBuilder);
+                    value = valueBuilder.toString();
+                }
+                // only the first occurrence of the `rel` parameter is considered
+                if (rel == null && REL.equalsIgnoreCase(name)) {
+                    rel = value;
+                }
+            }
+            if (rel != null && hasSelfRelation(rel)) {
+                return fromString(uri);
+            }
+            pos = skipLinkValue(linkHeader, pos);
+        }
+        return fromString("");
+    }
+
+    private static int readParameterValue(String linkHeader, int pos, StringBuilder value) {
+        int length = linkHeader.length();
+        if (pos < length && linkHeader.charAt(pos) == '"') {
+            pos++;
+            while (pos < length && linkHeader.charAt(pos) != '"') {
+                if (linkHeader.charAt(pos) == '\\' && pos + 1 < length) {
+                    pos++;
+                }
+                value.append(linkHeader.charAt(pos++));
+            }
+            return Math.min(pos + 1, length);
+        }
+        while (pos < length && linkHeader.charAt(pos) != ';' && linkHeader.charAt(pos) != ',') {
+            value.append(linkHeader.charAt(pos++));
+        }
+        return pos;
+    }
+
+    private static boolean hasSelfRelation(String rel) {
+        for (String relationType : rel.trim().split("\\s+")) {
+            if (SELF.equalsIgnoreCase(relationType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int skipLinkValue(String linkHeader, int pos) {
+        // skips the remainder of the current link-value, while ignoring the commas within the quoted strings
+        boolean quoted = false;
+        while (pos < linkHeader.length()) {
+            char current = linkHeader.charAt(pos);
+            if (current == '"') {
+                quoted = !quoted;
+            } else if (current == ',' && !quoted) {
+                break;
+            }
+            pos++;
+        }
+        return pos;
+    }
+
+    private static int skipWhitespace(String value, int pos) {
+        while (pos < value.length() && Character.isWhitespace(value.charAt(pos))) {
+            pos++;
+        }
+        return pos;
+    }
+}
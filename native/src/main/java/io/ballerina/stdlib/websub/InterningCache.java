@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.websub;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * {@code InterningCache} is a bounded cache of values resolved from recurring header values. Once the cache is full,
+ * the values of the new keys are resolved without being cached, hence the memory usage is bounded even when the keys
+ * are not recurring.
+ *
+ * @param <V> type of the resolved values
+ */
+final class InterningCache<V> {
+    private final int capacity;
+    private final Map<String, V> entries;
+
+    InterningCache(int capacity) {
+        this.capacity = capacity;
+        this.entries = new ConcurrentHashMap<>(capacity);
+    }
+
+    /**
+     * Retrieves the value of the provided key, resolving it if it is not cached yet.
+     *
+     * @param key      raw key
+     * @param resolver function to resolve the value of the key, which should not return {@code null}
+     * @return the cached or the resolved value
+     */
+    V get(String key, Function<String, V> resolver) {
+        V value = entries.get(key);
+        if (value != null) {
+            return value;
+        }
+        value = resolver.apply(key);
+        if (entries.size() < capacity) {
+            V existingValue = entries.putIfAbsent(key, value);
+            return existingValue != null ? existingValue : value;
+        }
+        return value;
+    }
+}
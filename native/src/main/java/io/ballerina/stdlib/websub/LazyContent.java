@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.websub;
+
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+import java.nio.charset.Charset;
+
+import static io.ballerina.runtime.api.utils.StringUtils.fromString;
+
+/**
+ * {@code LazyContent} holds the parsed content of a content distribution message which is received in the lazy
+ * content mode. In this mode the message carries the raw request body, and the body is parsed according to its
+ * content-type only when the content is accessed for the first time.
+ */
+final class LazyContent {
+    private static final BString CONTENT_TYPE = fromString("contentType");
+    private static final BString CONTENT = fromString("content");
+
+    private final Charset charset;
+    private final String contentEncoding;
+    private final long maxInflatedSize;
+    // a concurrent first access could parse the body more than once, but every access returns an equivalent value
+    private volatile Object materializedContent;
+
+    LazyContent(Charset charset, String contentEncoding, long maxInflatedSize) {
+        this.charset = charset;
+        this.contentEncoding = contentEncoding;
+        this.maxInflatedSize = maxInflatedSize;
+    }
+
+    /**
+     * Retrieves the parsed content of the message, parsing the raw request body if it is not parsed yet.
+     *
+     * @param message content distribution message which carries the raw request body
+     * @return the parsed content or a {@code BError} if the request body could not be parsed
+     */
+    Object materialize(BMap<BString, Object> message) {
+        Object content = materializedContent;
+        if (content != null) {
+            return content;
+        }
+        BString contentType = message.getStringValue(CONTENT_TYPE);
+        content = ContentParser.parse(contentType.getValue(), charset, contentEncoding,
+                (BArray) message.get(CONTENT), maxInflatedSize);
+        if (content instanceof BError) {
+            return content;
+        }
+        materializedContent = content;
+        return content;
+    }
+}
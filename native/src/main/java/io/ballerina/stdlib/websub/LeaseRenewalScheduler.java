@@ -0,0 +1,336 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.websub;
+
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static io.ballerina.runtime.api.utils.StringUtils.fromString;
+
+/**
+ * {@code LeaseRenewalScheduler} schedules the renewal of the subscription leases of the http-services attached to a
+ * websub-listener. The renewals are kept in a hierarchical timing wheel, hence scheduling or cancelling a renewal costs
+ * O(1) regardless of the number of scheduled renewals, and the due renewals are handed over to a single strand.
+ * <p>
+ * Each level of the wheel has {@code 64} slots and a slot of a level spans all the slots of the level below it. A
+ * renewal is placed in the lowest level which covers its deadline, and the renewals of a slot are moved to the lower
+ * levels when the wheel reaches that slot.
+ * <p>
+ * The expiry of each granted lease is retained until the lease is renewed or cancelled, so that a failed renewal is
+ * retried with an exponential backoff while the lease is still valid.
+ */
+public final class LeaseRenewalScheduler {
+    private static final BString RENEWAL_FRACTION = fromString("renewalFraction");
+    private static final BString JITTER_FRACTION = fromString("jitterFraction");
+    private static final BString TICK_DURATION = fromString("tickDuration");
+    private static final BString RETRY_INTERVAL = fromString("retryInterval");
+    // the backoff is not doubled further, since it is bounded by the remaining lease anyway
+    private static final int MAX_BACKOFF_SHIFT = 20;
+    private static final BigDecimal NANOS_PER_SECOND = BigDecimal.valueOf(TimeUnit.SECONDS.toNanos(1));
+    private static final int WHEEL_BITS = 6;
+    private static final int WHEEL_SIZE = 1 << WHEEL_BITS;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+    private static final int LEVELS = 4;
+    // the renewals beyond the span of the wheel are placed in the last slot of the top level, until they are in range
+    private static final long MAX_SPAN = 1L << (WHEEL_BITS * LEVELS);
+
+    private final double renewalFraction;
+    private final double jitterFraction;
+    private final long tickNanos;
+    private final long retryNanos;
+    private final long startNanos;
+    private final Entry[][] wheel = new Entry[LEVELS][WHEEL_SIZE];
+    private final Map<BObject, Entry> entries = new IdentityHashMap<>();
+    private final Map<BObject, Lease> leases = new IdentityHashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition scheduled = lock.newCondition();
+    private long currentTick;
+    private boolean closed;
+
+    private LeaseRenewalScheduler(double renewalFraction, double jitterFraction, long tickNanos, long retryNanos) {
+        this.renewalFraction = renewalFraction;
+        this.jitterFraction = jitterFraction;
+        this.tickNanos = tickNanos;
+        this.retryNanos = retryNanos;
+        this.startNanos = System.nanoTime();
+    }
+
+    static LeaseRenewalScheduler create(BMap<BString, Object> leaseRenewalConfig) {
+        double renewalFraction = ((BDecimal) leaseRenewalConfig.get(RENEWAL_FRACTION)).floatValue();
+        double jitterFraction = ((BDecimal) leaseRenewalConfig.get(JITTER_FRACTION)).floatValue();
+        BDecimal tickDuration = (BDecimal) leaseRenewalConfig.get(TICK_DURATION);
+        long tickNanos = Math.max(TimeUnit.MILLISECONDS.toNanos(1),
+                tickDuration.decimalValue().multiply(NANOS_PER_SECOND).longValue());
+        BDecimal retryInterval = (BDecimal) leaseRenewalConfig.get(RETRY_INTERVAL);
+        long retryNanos = Math.max(tickNanos, retryInterval.decimalValue().multiply(NANOS_PER_SECOND).longValue());
+        return new LeaseRenewalScheduler(Math.min(1, Math.max(0, renewalFraction)),
+                Math.min(1, Math.max(0, jitterFraction)), tickNanos, retryNanos);
+    }
+
+    /**
+     * Schedules the renewal of the subscription of an http-service, replacing its already scheduled renewal. The
+     * renewal is due after the configured fraction of the lease, which is brought forward by a random jitter.
+     *
+     * @param httpService  http-service of which the subscription should be renewed
+     * @param leaseSeconds lease granted by the `hub` in seconds
+     */
+    void schedule(BObject httpService, long leaseSeconds) {
+        long leaseNanos = TimeUnit.SECONDS.toNanos(leaseSeconds);
+        double jitter = 1 - jitterFraction * ThreadLocalRandom.current().nextDouble();
+        long delayNanos = (long) (leaseNanos * renewalFraction * jitter);
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            leases.put(httpService, new Lease(System.nanoTime() + leaseNanos));
+            enqueue(httpService, delayNanos);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Schedules a retry of a failed renewal of the subscription of an http-service. The retry is delayed by an
+     * exponential backoff, which is capped at half of the remaining lease, so that the renewal is retried again
+     * before the lease expires.
+     *
+     * @param httpService http-service of which the renewal has failed
+     * @return {@code true} if the renewal is retried, or else {@code false} if the lease is cancelled or it expires
+     * before the renewal could be retried
+     */
+    boolean retry(BObject httpService) {
+        lock.lock();
+        try {
+            Lease lease = leases.get(httpService);
+            if (closed || lease == null) {
+                return false;
+            }
+            if (entries.containsKey(httpService)) {
+                // the lease is already renewed by a subscription verification in the meantime
+                return true;
+            }
+            int shift = Math.min(lease.failures, MAX_BACKOFF_SHIFT);
+            long backoffNanos = retryNanos > Long.MAX_VALUE >> shift ? Long.MAX_VALUE : retryNanos << shift;
+            long delayNanos = Math.min(backoffNanos, (lease.expiryNanos - System.nanoTime()) / 2);
+            if (delayNanos < tickNanos) {
+                leases.remove(httpService);
+                return false;
+            }
+            lease.failures++;
+            enqueue(httpService, delayNanos);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Cancels the scheduled renewal of the subscription of an http-service, if there is any.
+     *
+     * @param httpService http-service of which the renewal should be cancelled
+     */
+    void cancel(BObject httpService) {
+        lock.lock();
+        try {
+            leases.remove(httpService);
+            Entry entry = entries.remove(httpService);
+            if (entry != null) {
+                entry.unlink();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Retrieves the http-services of which the renewals are due, waiting until at least one renewal is due.
+     *
+     * @return the http-services to be renewed, or {@code null} if the scheduler is closed
+     */
+    List<BObject> takeDue() {
+        lock.lock();
+        try {
+            while (!closed) {
+                long elapsedTicks = (System.nanoTime() - startNanos) / tickNanos;
+                if (entries.isEmpty()) {
+                    // there is nothing to expire, hence the wheel is moved to the current tick at once
+                    currentTick = Math.max(currentTick, elapsedTicks);
+                    scheduled.awaitUninterruptibly();
+                    continue;
+                }
+                List<BObject> due = new ArrayList<>();
+                while (currentTick < elapsedTicks && due.isEmpty()) {
+                    advance(due);
+                }
+                if (!due.isEmpty()) {
+                    return due;
+                }
+                long nextTickNanos = startNanos + (currentTick + 1) * tickNanos;
+                scheduled.awaitNanos(Math.max(1, nextTickNanos - System.nanoTime()));
+            }
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Closes the scheduler, so that the scheduled renewals are discarded and the waiting strand is released.
+     */
+    void close() {
+        lock.lock();
+        try {
+            closed = true;
+            entries.clear();
+            leases.clear();
+            for (Entry[] slots : wheel) {
+                Arrays.fill(slots, null);
+            }
+            scheduled.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void enqueue(BObject httpService, long delayNanos) {
+        Entry entry = entries.remove(httpService);
+        if (entry != null) {
+            entry.unlink();
+        }
+        // the deadline is based on the elapsed time, since the wheel is not advanced while it is empty
+        long elapsedTicks = (System.nanoTime() - startNanos) / tickNanos;
+        long delayTicks = Math.max(1, (delayNanos + tickNanos - 1) / tickNanos);
+        entry = new Entry(httpService, Math.max(currentTick, elapsedTicks) + delayTicks);
+        entries.put(httpService, entry);
+        place(entry);
+        scheduled.signal();
+    }
+
+    private void advance(List<BObject> due) {
+        currentTick++;
+        // the higher levels are cascaded first, so that their renewals could be cascaded further in the same tick
+        for (int level = LEVELS - 1; level > 0; level--) {
+            int shift = WHEEL_BITS * level;
+            if ((currentTick & ((1L << shift) - 1)) == 0) {
+                Entry entry = detachSlot(level, (int) ((currentTick >>> shift) & WHEEL_MASK));
+                while (entry != null) {
+                    Entry next = entry.next;
+                    place(entry);
+                    entry = next;
+                }
+            }
+        }
+        Entry entry = detachSlot(0, (int) (currentTick & WHEEL_MASK));
+        while (entry != null) {
+            Entry next = entry.next;
+            entries.remove(entry.httpService);
+            entry.slot = null;
+            due.add(entry.httpService);
+            entry = next;
+        }
+    }
+
+    private void place(Entry entry) {
+        // a cascaded renewal which is due at the current tick is placed in the current slot of the lowest level,
+        // which is expired right after the cascade
+        long delta = Math.max(0, Math.min(entry.deadline - currentTick, MAX_SPAN - 1));
+        long deadline = currentTick + delta;
+        int level = 0;
+        while (level < LEVELS - 1 && delta >= 1L << (WHEEL_BITS * (level + 1))) {
+            level++;
+        }
+        int index = (int) ((deadline >>> (WHEEL_BITS * level)) & WHEEL_MASK);
+        Entry[] slots = wheel[level];
+        entry.slot = slots;
+        entry.index = index;
+        entry.prev = null;
+        entry.next = slots[index];
+        if (entry.next != null) {
+            entry.next.prev = entry;
+        }
+        slots[index] = entry;
+    }
+
+    private Entry detachSlot(int level, int index) {
+        Entry head = wheel[level][index];
+        wheel[level][index] = null;
+        return head;
+    }
+
+    /**
+     * Represents a scheduled renewal, which is linked into a slot of the wheel.
+     */
+    private static final class Entry {
+        private final BObject httpService;
+        private final long deadline;
+        private Entry[] slot;
+        private int index;
+        private Entry prev;
+        private Entry next;
+
+        private Entry(BObject httpService, long deadline) {
+            this.httpService = httpService;
+            this.deadline = deadline;
+        }
+
+        private void unlink() {
+            if (slot == null) {
+                return;
+            }
+            if (prev != null) {
+                prev.next = next;
+            } else {
+                slot[index] = next;
+            }
+            if (next != null) {
+                next.prev = prev;
+            }
+            slot = null;
+        }
+    }
+
+    /**
+     * Represents a lease granted by the `hub`, which is retained until it is renewed or cancelled.
+     */
+    private static final class Lease {
+        private final long expiryNanos;
+        private int failures;
+
+        private Lease(long expiryNanos) {
+            this.expiryNanos = expiryNanos;
+        }
+    }
+}
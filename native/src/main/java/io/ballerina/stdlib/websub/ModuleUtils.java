@@ -25,8 +25,6 @@ import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BString;
 
-import java.util.concurrent.CompletableFuture;
-
 import static io.ballerina.runtime.api.utils.StringUtils.fromString;
 
 /**
@@ -48,14 +46,14 @@ public class ModuleUtils {
         return websubModule;
     }
 
-    public static void notifySuccess(CompletableFuture<Object> future, Object result) {
+    public static Object notifySuccess(Object result) {
         if (result instanceof BError) {
             BError error = (BError) result;
             if (!isModuleDefinedError(error)) {
                 error.printStackTrace();
             }
         }
-        future.complete(result);
+        return result;
     }
 
     public static Object notifyFailure(BError bError, Module module) {
@@ -72,17 +70,4 @@ public class ModuleUtils {
         String packageName = packageDetails.getName();
         return Constants.PACKAGE_ORG.equals(orgName) && Constants.PACKAGE_NAME.equals(packageName);
     }
-
-    public static Object getResult(CompletableFuture<Object> balFuture) {
-        try {
-            return balFuture.get();
-        } catch (BError error) {
-            throw error;
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw ErrorCreator.createError(e);
-        } catch (Throwable throwable) {
-            throw ErrorCreator.createError(throwable);
-        }
-    }
 }
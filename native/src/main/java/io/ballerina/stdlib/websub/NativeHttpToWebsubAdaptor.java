@@ -20,43 +20,397 @@ package io.ballerina.stdlib.websub;
 
 import io.ballerina.runtime.api.Environment;
 import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.creators.TypeCreator;
 import io.ballerina.runtime.api.creators.ValueCreator;
-import io.ballerina.runtime.api.types.IntersectionType;
-import io.ballerina.runtime.api.types.MethodType;
-import io.ballerina.runtime.api.types.ObjectType;
-import io.ballerina.runtime.api.types.Parameter;
-import io.ballerina.runtime.api.types.Type;
-import io.ballerina.runtime.api.types.TypeTags;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.PredefinedTypes;
+import io.ballerina.runtime.api.types.RecordType;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.utils.TypeUtils;
 import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
 import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.api.values.BHandle;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BRefValue;
 import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTypedesc;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
+import static io.ballerina.runtime.api.utils.StringUtils.fromString;
+import static io.ballerina.stdlib.websub.Constants.ASYNC_DELIVERY_CONFIG;
+import static io.ballerina.stdlib.websub.Constants.ASYNC_DELIVERY_QUEUE;
+import static io.ballerina.stdlib.websub.Constants.BATCH_CONFIG;
+import static io.ballerina.stdlib.websub.Constants.CONCURRENCY_CONFIG;
+import static io.ballerina.stdlib.websub.Constants.CONCURRENCY_LIMITER;
+import static io.ballerina.stdlib.websub.Constants.CONTENT_STREAM;
+import static io.ballerina.stdlib.websub.Constants.DEDUPLICATION_CONFIG;
+import static io.ballerina.stdlib.websub.Constants.DEDUPLICATION_KEY;
+import static io.ballerina.stdlib.websub.Constants.DELIVERY_DEDUPLICATOR;
+import static io.ballerina.stdlib.websub.Constants.DETACH_HTTP_REQUEST;
+import static io.ballerina.stdlib.websub.Constants.DISPATCH_DESCRIPTOR;
+import static io.ballerina.stdlib.websub.Constants.DISPATCH_EVENT_NOTIFICATION;
+import static io.ballerina.stdlib.websub.Constants.EVENT_BATCH_DISPATCHER;
+import static io.ballerina.stdlib.websub.Constants.EVENT_NOTIFICATION_SPOOL;
+import static io.ballerina.stdlib.websub.Constants.HEADER_SNAPSHOT;
 import static io.ballerina.stdlib.websub.Constants.HTTP_REQUEST;
+import static io.ballerina.stdlib.websub.Constants.HTTP_REQUEST_DETACHMENT;
+import static io.ballerina.stdlib.websub.Constants.LAZY_CONTENT;
+import static io.ballerina.stdlib.websub.Constants.MAC_POOL;
 import static io.ballerina.stdlib.websub.Constants.ON_EVENT_NOTIFICATION;
+import static io.ballerina.stdlib.websub.Constants.ON_EVENT_NOTIFICATION_BATCH;
 import static io.ballerina.stdlib.websub.Constants.ON_HUB_ERROR;
 import static io.ballerina.stdlib.websub.Constants.ON_SUBSCRIPTION_VALIDATION_DENIED;
 import static io.ballerina.stdlib.websub.Constants.ON_SUBSCRIPTION_VERIFICATION;
 import static io.ballerina.stdlib.websub.Constants.ON_UNSUBSCRIPTION_VERIFICATION;
-import static io.ballerina.stdlib.websub.Constants.SERVICE_OBJECT;
+import static io.ballerina.stdlib.websub.Constants.ORDERED_DISPATCHER;
+import static io.ballerina.stdlib.websub.Constants.ORDERING_CONFIG;
+import static io.ballerina.stdlib.websub.Constants.ORDERING_KEY;
+import static io.ballerina.stdlib.websub.Constants.PAYLOAD_HOLDER;
+import static io.ballerina.stdlib.websub.Constants.PAYLOAD_STORAGE;
+import static io.ballerina.stdlib.websub.Constants.PAYLOAD_STORE;
+import static io.ballerina.stdlib.websub.Constants.ROUTES;
+import static io.ballerina.stdlib.websub.Constants.SECRET;
+import static io.ballerina.stdlib.websub.Constants.SPOOL_CONFIG;
+import static io.ballerina.stdlib.websub.Constants.SPOOL_OFFSET;
 import static io.ballerina.stdlib.websub.Constants.SUBSCRIBER_CONFIG;
+import static io.ballerina.stdlib.websub.Constants.TOPIC_ROUTER;
 
 /**
  * {@code NativeHttpToWebsubAdaptor} is a wrapper object used for service method execution.
  */
 public final class NativeHttpToWebsubAdaptor {
+    private static final BString HEADERS = fromString("headers");
+    private static final BString CONTENT = fromString("content");
+    private static final String CONTENT_TYPE = "contentType";
+    private static final String CONTENT_DISTRIBUTION_MESSAGE = "ContentDistributionMessage";
+    private static final String OFFSET = "offset";
+    private static final String PAYLOAD = "payload";
+    private static final String SPOOLED_EVENT_NOTIFICATION = "SpooledEventNotification";
+    private static final String DEDUPLICATION_STATS = "DeduplicationStats";
+    private static final String HITS = "hits";
+    private static final String MISSES = "misses";
+    private static final BigDecimal NANOS_PER_SECOND = BigDecimal.valueOf(TimeUnit.SECONDS.toNanos(1));
+
     private NativeHttpToWebsubAdaptor() {}
 
-    public static void externInit(BObject adaptor, BObject service) {
-        adaptor.addNativeData(SERVICE_OBJECT, service);
+    @SuppressWarnings("unchecked")
+    public static Object externInit(BObject adaptor, BObject service, BMap<BString, Object> serviceConfig) {
+        ServiceDispatchDescriptor descriptor = ServiceDispatchDescriptor.create(service);
+        adaptor.addNativeData(DISPATCH_DESCRIPTOR, descriptor);
+        if (descriptor.isMethodAvailable(ON_EVENT_NOTIFICATION_BATCH)) {
+            BMap<BString, Object> batchConfig = (BMap<BString, Object>) serviceConfig.get(fromString(BATCH_CONFIG));
+            adaptor.addNativeData(EVENT_BATCH_DISPATCHER, EventBatchDispatcher.create(batchConfig));
+        }
+        Object concurrencyConfig = serviceConfig.get(fromString(CONCURRENCY_CONFIG));
+        if (Objects.nonNull(concurrencyConfig)) {
+            ConcurrencyLimiter limiter = ConcurrencyLimiter.create((BMap<BString, Object>) concurrencyConfig);
+            adaptor.addNativeData(CONCURRENCY_LIMITER, limiter);
+        }
+        if (Objects.nonNull(serviceConfig.get(fromString(ORDERING_CONFIG)))) {
+            adaptor.addNativeData(ORDERED_DISPATCHER, new OrderedDispatcher());
+        }
+        Object deduplicationConfig = serviceConfig.get(fromString(DEDUPLICATION_CONFIG));
+        if (Objects.nonNull(deduplicationConfig)) {
+            DeliveryDeduplicator deduplicator =
+                    DeliveryDeduplicator.create((BMap<BString, Object>) deduplicationConfig);
+            adaptor.addNativeData(DELIVERY_DEDUPLICATOR, deduplicator);
+        }
+        Object routes = serviceConfig.get(fromString(ROUTES));
+        if (Objects.nonNull(routes)) {
+            try {
+                adaptor.addNativeData(TOPIC_ROUTER, TopicRouter.create((BArray) routes, descriptor));
+            } catch (IllegalArgumentException e) {
+                return ErrorCreator.createError(ModuleUtils.getModule(), "Error", fromString(e.getMessage()),
+                        null, null);
+            }
+        }
+        Object secret = serviceConfig.get(fromString(SECRET));
+        if (secret instanceof BString) {
+            // the `Mac` instances initialized with the secret are released together with the subscriber service
+            adaptor.addNativeData(MAC_POOL, new ContentVerifier.MacPool(((BString) secret).getValue()));
+        }
+        if (serviceConfig.getBooleanValue(fromString(DETACH_HTTP_REQUEST))) {
+            adaptor.addNativeData(HTTP_REQUEST_DETACHMENT, Boolean.TRUE);
+        }
+        Object asyncDeliveryConfig = serviceConfig.get(fromString(ASYNC_DELIVERY_CONFIG));
+        if (Objects.nonNull(asyncDeliveryConfig)) {
+            BMap<BString, Object> deliveryConfig = (BMap<BString, Object>) asyncDeliveryConfig;
+            adaptor.addNativeData(ASYNC_DELIVERY_QUEUE, AsyncDeliveryQueue.create(deliveryConfig));
+            Object payloadStorage = deliveryConfig.get(fromString(PAYLOAD_STORAGE));
+            if (Objects.nonNull(payloadStorage)) {
+                adaptor.addNativeData(PAYLOAD_STORE, PayloadStore.create((BMap<BString, Object>) payloadStorage));
+            }
+            Object spoolConfig = deliveryConfig.get(fromString(SPOOL_CONFIG));
+            if (Objects.nonNull(spoolConfig)) {
+                try {
+                    EventNotificationSpool spool = EventNotificationSpool.open((BMap<BString, Object>) spoolConfig);
+                    adaptor.addNativeData(EVENT_NOTIFICATION_SPOOL, spool);
+                } catch (IOException e) {
+                    return createSpoolError("Error occurred while opening the content distribution spool", e);
+                }
+            }
+        }
+        return null;
+    }
+
+    public static Object processEventNotification(Environment env, BObject adaptor, BObject httpService,
+                                                  BObject caller, BObject request, BObject response,
+                                                  BString secretKey, Object orderingKey) {
+        ConcurrencyLimiter limiter = (ConcurrencyLimiter) adaptor.getNativeData(CONCURRENCY_LIMITER);
+        OrderedDispatcher dispatcher = (OrderedDispatcher) adaptor.getNativeData(ORDERED_DISPATCHER);
+        // the queued messages are ordered when they are taken from the queue, hence only a synchronous delivery waits
+        // on its ordering lane here
+        boolean isLaneEntered = orderingKey instanceof BString && Objects.nonNull(dispatcher)
+                && Objects.isNull(adaptor.getNativeData(ASYNC_DELIVERY_QUEUE));
+        String laneKey = isLaneEntered ? ((BString) orderingKey).getValue() : null;
+        Object[] args = new Object[]{caller, request, response, secretKey, orderingKey};
+        return env.yieldAndRun(() -> {
+            // the lane is entered before the permit is acquired, so that the requests waiting on a busy lane do not
+            // hold the permits of the requests with the other keys
+            if (Objects.nonNull(laneKey)) {
+                dispatcher.enter(laneKey);
+            }
+            try {
+                if (Objects.nonNull(limiter) && !limiter.tryAcquire()) {
+                    return false;
+                }
+                try {
+                    Object result = env.getRuntime().callMethod(httpService, DISPATCH_EVENT_NOTIFICATION, null, args);
+                    return result instanceof BError ? result : Boolean.TRUE;
+                } finally {
+                    if (Objects.nonNull(limiter)) {
+                        limiter.release();
+                    }
+                }
+            } finally {
+                if (Objects.nonNull(laneKey)) {
+                    dispatcher.exit(laneKey);
+                }
+            }
+        });
+    }
+
+    public static Object enqueueEventNotification(BObject adaptor, BMap<BString, Object> message,
+                                                  BObject bHttpRequest, Object orderingKey,
+                                                  BMap<BString, Object> headers, BArray payload) {
+        AsyncDeliveryQueue queue = (AsyncDeliveryQueue) adaptor.getNativeData(ASYNC_DELIVERY_QUEUE);
+        EventNotificationSpool spool = (EventNotificationSpool) adaptor.getNativeData(EVENT_NOTIFICATION_SPOOL);
+        String key = orderingKey instanceof BString ? ((BString) orderingKey).getValue() : null;
+        message.addNativeData(ORDERING_KEY, key);
+        PayloadStore.Holder holder = null;
+        try {
+            holder = storeQueuedContent(adaptor, message, bHttpRequest);
+            if (Objects.isNull(spool)) {
+                return offerEventNotification(queue, message, key, holder);
+            }
+            // the message is persisted before it is acknowledged, so that it could be replayed after a restart
+            long offset = spool.append(headers, payload.getBytes());
+            message.addNativeData(SPOOL_OFFSET, offset);
+            if (offerEventNotification(queue, message, key, holder)) {
+                return true;
+            }
+            // the payload of the rejected message is already released
+            holder = null;
+            // the `hub` would retry the rejected message, hence it is not replayed
+            spool.commit(offset);
+            return false;
+        } catch (IOException e) {
+            releaseQueuedContent(holder);
+            return createSpoolError("Error occurred while spooling the content distribution message", e);
+        }
+    }
+
+    private static PayloadStore.Holder storeQueuedContent(BObject adaptor, BMap<BString, Object> message,
+                                                          BObject bHttpRequest) throws IOException {
+        PayloadStore store = (PayloadStore) adaptor.getNativeData(PAYLOAD_STORE);
+        // a bound content is no longer held as raw bytes, hence it is queued as it is
+        if (Objects.isNull(store) || Objects.nonNull(getDispatchDescriptor(adaptor).getBoundMessageType())) {
+            message.addNativeData(HTTP_REQUEST, bHttpRequest);
+            return null;
+        }
+        // the request entity caches the whole body, hence only a snapshot of the headers is queued with the message
+        retainHeaderSnapshot(message);
+        // the raw content is moved out of the message while it is waiting in the queue
+        PayloadStore.Holder holder = store.hold(((BArray) message.get(CONTENT)).getBytes());
+        message.addNativeData(PAYLOAD_HOLDER, holder);
+        message.put(CONTENT, ValueCreator.createArrayValue(new byte[0]));
+        return holder;
+    }
+
+    private static void releaseQueuedContent(PayloadStore.Holder holder) {
+        if (Objects.isNull(holder)) {
+            return;
+        }
+        try {
+            // the payload of a message which is not queued is taken back, so that its resources are released
+            holder.take();
+        } catch (IOException e) {
+            // the message is rejected regardless, and the original failure is reported instead
+        }
+    }
+
+    private static boolean offerEventNotification(AsyncDeliveryQueue queue, BMap<BString, Object> message,
+                                                  String key, PayloadStore.Holder holder) {
+        if (queue.offer(message, key)) {
+            return true;
+        }
+        releaseQueuedContent(holder);
+        return false;
+    }
+
+    public static Object restoreQueuedContent(BMap<BString, Object> message, boolean lazyContent) {
+        PayloadStore.Holder holder = (PayloadStore.Holder) message.getNativeData(PAYLOAD_HOLDER);
+        if (Objects.isNull(holder)) {
+            return null;
+        }
+        message.addNativeData(PAYLOAD_HOLDER, null);
+        try {
+            message.put(CONTENT, ValueCreator.createArrayValue(holder.take()));
+        } catch (IOException e) {
+            return createSpoolError("Error occurred while restoring the queued content", e);
+        }
+        if (lazyContent) {
+            return null;
+        }
+        // the content is parsed only when the message is about to be delivered
+        Object content = ((LazyContent) message.getNativeData(LAZY_CONTENT)).materialize(message);
+        if (content instanceof BError) {
+            return content;
+        }
+        message.put(CONTENT, content);
+        message.addNativeData(LAZY_CONTENT, null);
+        return null;
+    }
+
+    public static boolean isDuplicateDelivery(BObject adaptor, BString deliveryId) {
+        DeliveryDeduplicator deduplicator = (DeliveryDeduplicator) adaptor.getNativeData(DELIVERY_DEDUPLICATOR);
+        return Objects.nonNull(deduplicator) && deduplicator.isDuplicate(deliveryId.getValue());
+    }
+
+    public static void retainDelivery(BObject adaptor, BMap<BString, Object> message, BString deliveryId) {
+        // the delivery-id is checked before the message is created, hence it is retained once the message is available
+        message.addNativeData(DEDUPLICATION_KEY, deliveryId.getValue());
+    }
+
+    public static void forgetDelivery(BObject adaptor, BString deliveryId) {
+        DeliveryDeduplicator deduplicator = (DeliveryDeduplicator) adaptor.getNativeData(DELIVERY_DEDUPLICATOR);
+        if (Objects.nonNull(deduplicator)) {
+            deduplicator.forget(deliveryId.getValue());
+        }
+    }
+
+    public static boolean isDuplicateContent(BObject adaptor, BMap<BString, Object> message, BString topic,
+                                             BArray payload) {
+        Object key = DeliveryDeduplicator.contentKey(topic.getValue(), payload.getBytes());
+        return isDuplicateEventNotification(adaptor, message, key);
+    }
+
+    private static boolean isDuplicateEventNotification(BObject adaptor, BMap<BString, Object> message, Object key) {
+        DeliveryDeduplicator deduplicator = (DeliveryDeduplicator) adaptor.getNativeData(DELIVERY_DEDUPLICATOR);
+        if (Objects.isNull(deduplicator)) {
+            return false;
+        }
+        if (deduplicator.isDuplicate(key)) {
+            return true;
+        }
+        // the key is retained, so that it could be forgotten if the message is not accepted
+        message.addNativeData(DEDUPLICATION_KEY, key);
+        return false;
+    }
+
+    public static void forgetEventNotification(BObject adaptor, BMap<BString, Object> message) {
+        DeliveryDeduplicator deduplicator = (DeliveryDeduplicator) adaptor.getNativeData(DELIVERY_DEDUPLICATOR);
+        Object key = message.getNativeData(DEDUPLICATION_KEY);
+        if (Objects.nonNull(deduplicator) && Objects.nonNull(key)) {
+            deduplicator.forget(key);
+        }
+    }
+
+    public static BMap<BString, Object> getDeduplicationStats(BObject adaptor) {
+        DeliveryDeduplicator deduplicator = (DeliveryDeduplicator) adaptor.getNativeData(DELIVERY_DEDUPLICATOR);
+        Map<String, Object> fields = new HashMap<>();
+        fields.put(HITS, Objects.isNull(deduplicator) ? 0L : deduplicator.getHits());
+        fields.put(MISSES, Objects.isNull(deduplicator) ? 0L : deduplicator.getMisses());
+        return ValueCreator.createRecordValue(ModuleUtils.getModule(), DEDUPLICATION_STATS, fields);
+    }
+
+    public static Object takeQueuedEventNotification(Environment env, BObject adaptor) {
+        AsyncDeliveryQueue queue = (AsyncDeliveryQueue) adaptor.getNativeData(ASYNC_DELIVERY_QUEUE);
+        OrderedDispatcher dispatcher = (OrderedDispatcher) adaptor.getNativeData(ORDERED_DISPATCHER);
+        AsyncDeliveryQueue.Entry entry = env.yieldAndRun(() -> queue.take(dispatcher));
+        return Objects.isNull(entry) ? null : entry.getMessage();
+    }
+
+    public static Object completeQueuedEventNotification(BObject adaptor, BMap<BString, Object> message) {
+        Object orderingKey = message.getNativeData(ORDERING_KEY);
+        OrderedDispatcher dispatcher = (OrderedDispatcher) adaptor.getNativeData(ORDERED_DISPATCHER);
+        if (Objects.nonNull(dispatcher) && Objects.nonNull(orderingKey)) {
+            dispatcher.exit((String) orderingKey);
+        }
+        ((AsyncDeliveryQueue) adaptor.getNativeData(ASYNC_DELIVERY_QUEUE)).complete();
+        Object offset = message.getNativeData(SPOOL_OFFSET);
+        if (Objects.nonNull(offset)) {
+            return commitSpooledEventNotification(adaptor, (Long) offset);
+        }
+        return null;
+    }
+
+    public static Object pollSpooledEventNotification(BObject adaptor) {
+        EventNotificationSpool spool = (EventNotificationSpool) adaptor.getNativeData(EVENT_NOTIFICATION_SPOOL);
+        EventNotificationSpool.Record record = Objects.isNull(spool) ? null : spool.pollRecoveredRecord();
+        if (Objects.isNull(record)) {
+            return null;
+        }
+        BMap<BString, Object> headers = ValueCreator.createMapValue(
+                TypeCreator.createMapType(TypeCreator.createArrayType(PredefinedTypes.TYPE_STRING)));
+        for (Map.Entry<String, String[]> header : record.getHeaders().entrySet()) {
+            BString[] values = Arrays.stream(header.getValue()).map(StringUtils::fromString).toArray(BString[]::new);
+            headers.put(fromString(header.getKey()), ValueCreator.createArrayValue(values));
+        }
+        Map<String, Object> fields = new HashMap<>();
+        fields.put(OFFSET, record.getOffset());
+        fields.put(HEADERS.getValue(), headers);
+        fields.put(PAYLOAD, ValueCreator.createArrayValue(record.getPayload()));
+        return ValueCreator.createRecordValue(ModuleUtils.getModule(), SPOOLED_EVENT_NOTIFICATION, fields);
+    }
+
+    public static Object commitSpooledEventNotification(BObject adaptor, long offset) {
+        EventNotificationSpool spool = (EventNotificationSpool) adaptor.getNativeData(EVENT_NOTIFICATION_SPOOL);
+        try {
+            spool.commit(offset);
+            return null;
+        } catch (IOException e) {
+            return createSpoolError("Error occurred while committing the spooled content distribution message", e);
+        }
+    }
+
+    private static BError createSpoolError(String message, IOException e) {
+        return ErrorCreator.createError(ModuleUtils.getModule(), "Error", fromString(message + ": " + e.getMessage()),
+                ErrorCreator.createError(e), null);
+    }
+
+    public static boolean drainQueuedEventNotifications(Environment env, BObject adaptor, BDecimal timeout) {
+        AsyncDeliveryQueue queue = (AsyncDeliveryQueue) adaptor.getNativeData(ASYNC_DELIVERY_QUEUE);
+        if (Objects.isNull(queue)) {
+            return true;
+        }
+        long timeoutNanos = timeout.decimalValue().multiply(NANOS_PER_SECOND).longValue();
+        return env.yieldAndRun(() -> queue.close(timeoutNanos));
+    }
+
+    public static long getQueuedEventNotificationCount(BObject adaptor) {
+        AsyncDeliveryQueue queue = (AsyncDeliveryQueue) adaptor.getNativeData(ASYNC_DELIVERY_QUEUE);
+        return Objects.isNull(queue) ? 0 : queue.depth();
     }
 
     @SuppressWarnings("unchecked")
@@ -69,97 +423,262 @@ public final class NativeHttpToWebsubAdaptor {
     }
 
     public static BArray getServiceMethodNames(BObject adaptor) {
-        BObject serviceObj = (BObject) adaptor.getNativeData(SERVICE_OBJECT);
-        ArrayList<BString> methodNamesList = new ArrayList<>();
-        ObjectType objectType = (ObjectType) TypeUtils.getReferredType(TypeUtils.getType(serviceObj));
-        for (MethodType method : objectType.getMethods()) {
-            methodNamesList.add(StringUtils.fromString(method.getName()));
-        }
-        return ValueCreator.createArrayValue(methodNamesList.toArray(BString[]::new));
+        return getDispatchDescriptor(adaptor).getMethodNames();
     }
 
     public static Object callOnSubscriptionVerificationMethod(Environment env, BObject adaptor,
                                                               BMap<BString, Object> message) {
-        BObject serviceObj = (BObject) adaptor.getNativeData(SERVICE_OBJECT);
-        boolean isReadOnly = isReadOnlyParam(serviceObj, ON_SUBSCRIPTION_VERIFICATION);
-        if (isReadOnly) {
+        ServiceDispatchDescriptor descriptor = getDispatchDescriptor(adaptor);
+        if (descriptor.isReadOnlyParam(ON_SUBSCRIPTION_VERIFICATION) && !message.isFrozen()) {
             message.freezeDirect();
         }
-        return invokeRemoteFunction(env, serviceObj, message,
+        return invokeRemoteFunction(env, descriptor.getService(), message,
                 "callOnSubscriptionVerificationMethod", ON_SUBSCRIPTION_VERIFICATION);
     }
     
     public static Object callOnUnsubscriptionVerificationMethod(Environment env, BObject adaptor,
                                                                 BMap<BString, Object> message) {
-        BObject serviceObj = (BObject) adaptor.getNativeData(SERVICE_OBJECT);
-        boolean isReadOnly = isReadOnlyParam(serviceObj, ON_UNSUBSCRIPTION_VERIFICATION);
-        if (isReadOnly) {
+        ServiceDispatchDescriptor descriptor = getDispatchDescriptor(adaptor);
+        if (descriptor.isReadOnlyParam(ON_UNSUBSCRIPTION_VERIFICATION) && !message.isFrozen()) {
             message.freezeDirect();
         }
-        return invokeRemoteFunction(env, serviceObj, message,
+        return invokeRemoteFunction(env, descriptor.getService(), message,
                 "callOnUnsubscriptionVerificationMethod", ON_UNSUBSCRIPTION_VERIFICATION);
     }
 
     public static Object callOnSubscriptionDeniedMethod(Environment env, BObject adaptor, BError message) {
-        BObject serviceObj = (BObject) adaptor.getNativeData(SERVICE_OBJECT);
+        BObject serviceObj = getDispatchDescriptor(adaptor).getService();
         return invokeRemoteFunction(env, serviceObj, message,
                 "callOnSubscriptionDeniedMethod", ON_SUBSCRIPTION_VALIDATION_DENIED);
     }
 
     public static Object callOnHubErrorMethod(Environment env, BObject adaptor, BError message) {
-        BObject serviceObj = (BObject) adaptor.getNativeData(SERVICE_OBJECT);
+        BObject serviceObj = getDispatchDescriptor(adaptor).getService();
         return invokeRemoteFunction(env, serviceObj, message, "callOnHubErrorMethod", ON_HUB_ERROR);
     }
 
     public static Object callOnEventNotificationMethod(Environment env, BObject adaptor,
-                                                       BMap<BString, Object> message, BObject bHttpRequest) {
+                                                       BMap<BString, Object> message, BObject bHttpRequest,
+                                                       Object topic) {
         message.addNativeData(HTTP_REQUEST, bHttpRequest);
-        BObject serviceObj = (BObject) adaptor.getNativeData(SERVICE_OBJECT);
-        boolean isReadOnly = isReadOnlyParam(serviceObj, ON_EVENT_NOTIFICATION);
-        if (isReadOnly) {
+        ServiceDispatchDescriptor descriptor = getDispatchDescriptor(adaptor);
+        String methodName = resolveEventNotificationMethod(adaptor, topic);
+        // the message is usually created as immutable, and it is frozen here only when it could not be
+        if (descriptor.isReadOnlyParam(methodName) && !message.isFrozen()) {
             message.freezeDirect();
         }
-        return invokeRemoteFunction(env, serviceObj, message,
-                "callOnEventNotificationMethod", ON_EVENT_NOTIFICATION);
-    }
-
-    private static boolean isReadOnlyParam(BObject serviceObj, String remoteMethod) {
-        ObjectType objectType = (ObjectType) TypeUtils.getReferredType(TypeUtils.getType(serviceObj));
-        for (MethodType method : objectType.getMethods()) {
-            if (method.getName().equals(remoteMethod)) {
-                Parameter[] parameters = method.getParameters();
-                if (parameters.length >= 1) {
-                    Parameter parameter = parameters[0];
-                    Type paramType = parameter.type;
-                    if (paramType instanceof IntersectionType) {
-                        List<Type> constituentTypes = ((IntersectionType) paramType).getConstituentTypes();
-                        return constituentTypes.stream().anyMatch(t -> TypeTags.READONLY_TAG == t.getTag());
-                    }
-                }
+        Object result = invokeRemoteFunction(env, descriptor.getService(), message,
+                "callOnEventNotificationMethod", methodName);
+        detachHttpRequest(adaptor, message);
+        return result;
+    }
+
+    private static String resolveEventNotificationMethod(BObject adaptor, Object topic) {
+        TopicRouter topicRouter = (TopicRouter) adaptor.getNativeData(TOPIC_ROUTER);
+        if (Objects.isNull(topicRouter) || Objects.isNull(topic)) {
+            return ON_EVENT_NOTIFICATION;
+        }
+        // the content of the topics which are not routed is delivered to `onEventNotification`
+        String handler = topicRouter.resolveHandler(((BString) topic).getValue());
+        return Objects.isNull(handler) ? ON_EVENT_NOTIFICATION : handler;
+    }
+
+    public static boolean isTopicRouted(BObject adaptor) {
+        return Objects.nonNull(adaptor.getNativeData(TOPIC_ROUTER));
+    }
+
+    public static Object callOnEventNotificationBatchMethod(Environment env, BObject adaptor,
+                                                            BMap<BString, Object> message, BObject bHttpRequest) {
+        message.addNativeData(HTTP_REQUEST, bHttpRequest);
+        ServiceDispatchDescriptor descriptor = getDispatchDescriptor(adaptor);
+        EventBatchDispatcher batchDispatcher = (EventBatchDispatcher) adaptor.getNativeData(EVENT_BATCH_DISPATCHER);
+        Object result = env.yieldAndRun(() -> batchDispatcher.dispatch(message, messages -> {
+            ArrayType batchType = TypeCreator.createArrayType(TypeUtils.getType(messages.get(0)));
+            BArray batch = ValueCreator.createArrayValue(messages.toArray(), batchType);
+            if (descriptor.isReadOnlyParam(ON_EVENT_NOTIFICATION_BATCH)) {
+                // the batched messages are created as immutable, hence only the batch itself is frozen here
+                batch.freezeDirect();
             }
+            return invokeRemoteMethod(env, descriptor.getService(), batch, ON_EVENT_NOTIFICATION_BATCH);
+        }));
+        detachHttpRequest(adaptor, message);
+        return result;
+    }
+
+    private static void detachHttpRequest(BObject adaptor, BMap<BString, Object> message) {
+        if (Objects.isNull(adaptor.getNativeData(HTTP_REQUEST_DETACHMENT))) {
+            return;
+        }
+        // the snapshot is attached before the request is released, so that the headers are always available
+        retainHeaderSnapshot(message);
+        message.addNativeData(HTTP_REQUEST, null);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void retainHeaderSnapshot(BMap<BString, Object> message) {
+        // a snapshot of all the request headers is already attached when the message headers are allowlisted
+        if (Objects.isNull(message.getNativeData(HEADER_SNAPSHOT))) {
+            message.addNativeData(HEADER_SNAPSHOT,
+                    HeaderSnapshot.create((BMap<BString, Object>) message.get(HEADERS)));
         }
-        return false;
+    }
+
+    public static void attachHeaderSnapshot(BMap<BString, Object> message, BMap<BString, Object> headers) {
+        message.addNativeData(HEADER_SNAPSHOT, HeaderSnapshot.create(headers));
+    }
+
+    private static ServiceDispatchDescriptor getDispatchDescriptor(BObject adaptor) {
+        return (ServiceDispatchDescriptor) adaptor.getNativeData(DISPATCH_DESCRIPTOR);
     }
 
     public static BObject retrieveHttpRequest(BMap<BString, Object> message) {
         return (BObject) message.getNativeData(HTTP_REQUEST);
     }
 
+    public static BMap<BString, Object> resolveContentType(BString contentType) {
+        return HeaderValueResolver.resolveContentType(contentType.getValue());
+    }
+
+    public static BString resolveTopic(BArray linkHeaders) {
+        return HeaderValueResolver.resolveTopic(linkHeaders);
+    }
+
+    public static BArray retrieveSnapshotHeaders(BMap<BString, Object> message, BString headerName) {
+        HeaderSnapshot snapshot = (HeaderSnapshot) message.getNativeData(HEADER_SNAPSHOT);
+        return Objects.isNull(snapshot) ? null : snapshot.getValues(headerName.getValue());
+    }
+
+    public static void attachLazyContent(BMap<BString, Object> message, Object charset, Object contentEncoding,
+                                         long maxInflatedSize) {
+        message.addNativeData(LAZY_CONTENT, new LazyContent(ContentParser.resolveCharset(charset),
+                resolveContentEncoding(contentEncoding), maxInflatedSize));
+    }
+
+    public static Object parseContent(BArray payload, BString contentType, Object charset, Object contentEncoding,
+                                      long maxInflatedSize) {
+        return ContentParser.parse(contentType.getValue(), ContentParser.resolveCharset(charset),
+                resolveContentEncoding(contentEncoding), payload, maxInflatedSize);
+    }
+
+    public static Object inflateContent(BArray payload, Object contentEncoding, long maxInflatedSize) {
+        return ContentParser.decode(resolveContentEncoding(contentEncoding), payload, maxInflatedSize);
+    }
+
+    public static BTypedesc getBoundContentType(BObject adaptor) {
+        return getDispatchDescriptor(adaptor).getBoundContentType();
+    }
+
+    public static BMap<BString, Object> createBoundEventNotification(BObject adaptor, BMap<BString, Object> headers,
+                                                                     BString contentType, Object content) {
+        ServiceDispatchDescriptor descriptor = getDispatchDescriptor(adaptor);
+        RecordType messageType = descriptor.getBoundMessageType();
+        // the message is created with the declared type, so that the bound content is not converted once more
+        return createEventNotification(messageType.getPackage(), messageType.getName(), headers, contentType, content,
+                descriptor.isReadOnlyParam(ON_EVENT_NOTIFICATION));
+    }
+
+    public static BMap<BString, Object> createReadOnlyEventNotification(BMap<BString, Object> headers,
+                                                                        BString contentType, Object content) {
+        return createEventNotification(ModuleUtils.getModule(), CONTENT_DISTRIBUTION_MESSAGE, headers, contentType,
+                content, true);
+    }
+
+    private static BMap<BString, Object> createEventNotification(Module module, String typeName,
+                                                                 BMap<BString, Object> headers, BString contentType,
+                                                                 Object content, boolean readOnly) {
+        Map<String, Object> fields = new HashMap<>();
+        fields.put(HEADERS.getValue(), headers);
+        fields.put(CONTENT_TYPE, contentType);
+        fields.put(CONTENT.getValue(), content);
+        if (!readOnly) {
+            return ValueCreator.createRecordValue(module, typeName, fields);
+        }
+        // only the values which are not created as immutable are frozen, which are the headers and the leaf contents
+        // such as `byte[]` and form parameters, hence the parsed content graph is not traversed once more
+        headers.freezeDirect();
+        if (content instanceof BRefValue && !((BRefValue) content).isFrozen()) {
+            ((BRefValue) content).freezeDirect();
+        }
+        return ValueCreator.createReadonlyRecordValue(module, typeName, fields);
+    }
+
+    public static boolean isReadOnlyParam(BObject adaptor, BString methodName) {
+        return getDispatchDescriptor(adaptor).isReadOnlyParam(methodName.getValue());
+    }
+
+    public static boolean isReadOnlyEventNotification(BObject adaptor) {
+        // when `onEventNotificationBatch` is implemented, the messages are delivered as a part of a batch
+        ServiceDispatchDescriptor descriptor = getDispatchDescriptor(adaptor);
+        return descriptor.isReadOnlyParam(descriptor.isMethodAvailable(ON_EVENT_NOTIFICATION_BATCH)
+                ? ON_EVENT_NOTIFICATION_BATCH : ON_EVENT_NOTIFICATION);
+    }
+
+    private static String resolveContentEncoding(Object contentEncoding) {
+        return contentEncoding instanceof BString ? ((BString) contentEncoding).getValue() : null;
+    }
+
+    public static Object getContent(BMap<BString, Object> message) {
+        LazyContent lazyContent = (LazyContent) message.getNativeData(LAZY_CONTENT);
+        if (Objects.isNull(lazyContent)) {
+            return message.get(CONTENT);
+        }
+        return lazyContent.materialize(message);
+    }
+
+    public static void attachContentStream(BMap<BString, Object> message, Object contentStream) {
+        message.addNativeData(CONTENT_STREAM, contentStream);
+    }
+
+    public static Object retrieveContentStream(BMap<BString, Object> message) {
+        return message.getNativeData(CONTENT_STREAM);
+    }
+
+    public static Object verifyContentSignature(BString signature, BString secret, BArray payload, Object adaptor) {
+        try {
+            return ContentVerifier.verify(signature.getValue(), resolveMacPool(adaptor, secret), payload.getBytes());
+        } catch (IllegalArgumentException e) {
+            return ErrorCreator.createError(ModuleUtils.getModule(), "Error", fromString(e.getMessage()), null, null);
+        }
+    }
+
+    public static Object createContentVerifier(BString signature, BString secret, Object adaptor) {
+        try {
+            return ValueCreator.createHandleValue(ContentVerifier.create(signature.getValue(),
+                    resolveMacPool(adaptor, secret)));
+        } catch (IllegalArgumentException e) {
+            return ErrorCreator.createError(ModuleUtils.getModule(), "Error", fromString(e.getMessage()), null, null);
+        }
+    }
+
+    private static ContentVerifier.MacPool resolveMacPool(Object adaptor, BString secret) {
+        ContentVerifier.MacPool macPool = adaptor instanceof BObject
+                ? (ContentVerifier.MacPool) ((BObject) adaptor).getNativeData(MAC_POOL) : null;
+        // a verification which is not bound to a subscriber service does not pool its `Mac`
+        return Objects.isNull(macPool) ? new ContentVerifier.MacPool(secret.getValue()) : macPool;
+    }
+
+    public static void updateContentVerifier(BHandle verifier, BArray chunk) {
+        ((ContentVerifier) verifier.getValue()).update(chunk.getBytes());
+    }
+
+    public static boolean isContentVerified(BHandle verifier) {
+        return ((ContentVerifier) verifier.getValue()).verify();
+    }
+
     private static Object invokeRemoteFunction(Environment env, BObject bSubscriberService, Object message,
                                                String parentFunctionName, String remoteFunctionName) {
-        return env.yieldAndRun(() -> {
-            CompletableFuture<Object> balFuture = new CompletableFuture<>();
-            Module module = ModuleUtils.getModule();
-            Object[] args = new Object[]{message};
-            ObjectType serviceType = (ObjectType) TypeUtils.getReferredType(TypeUtils.getType(bSubscriberService));
-            try {
-                Object result = env.getRuntime().callMethod(bSubscriberService, remoteFunctionName, null, args);
-                ModuleUtils.notifySuccess(balFuture, result);
-                return ModuleUtils.getResult(balFuture);
-            } catch (BError bError) {
-                return ModuleUtils.notifyFailure(bError, module);
-            }
-        });
+        return env.yieldAndRun(() -> invokeRemoteMethod(env, bSubscriberService, message, remoteFunctionName));
+    }
 
+    private static Object invokeRemoteMethod(Environment env, BObject bSubscriberService, Object message,
+                                             String remoteFunctionName) {
+        Object[] args = new Object[]{message};
+        try {
+            // the service method completes on the current strand, hence the result could be returned directly
+            Object result = env.getRuntime().callMethod(bSubscriberService, remoteFunctionName, null, args);
+            return ModuleUtils.notifySuccess(result);
+        } catch (BError bError) {
+            return ModuleUtils.notifyFailure(bError, ModuleUtils.getModule());
+        }
     }
 }
@@ -18,69 +18,187 @@
 
 package io.ballerina.stdlib.websub;
 
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.api.creators.TypeCreator;
 import io.ballerina.runtime.api.creators.ValueCreator;
 import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.utils.TypeUtils;
 import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 
+import static io.ballerina.stdlib.websub.Constants.LEASE_RENEWAL_SCHEDULER;
 import static io.ballerina.stdlib.websub.Constants.SERVICE_PATH;
 import static io.ballerina.stdlib.websub.Constants.SERVICE_REGISTRY;
 import static io.ballerina.stdlib.websub.Constants.SUBSCRIBER_CONFIG;
+import static io.ballerina.stdlib.websub.Constants.SUBSCRIPTION_INITIATOR;
 
 /**
  * {@code NativeWebSubListenerAdaptor} is a wrapper object used to save/retrieve native data related to WebSub Listener.
  */
 public final class NativeWebSubListenerAdaptor {
+    private static final BString SERVICE_PATH_FIELD = StringUtils.fromString("servicePath");
+    private static final BString SUBSCRIBER_SERVICE_FIELD = StringUtils.fromString("subscriberService");
+    private static final BString HTTP_SERVICE_FIELD = StringUtils.fromString("httpService");
+    private static final BString CONFIG_FIELD = StringUtils.fromString("config");
+
     private NativeWebSubListenerAdaptor() {}
 
-    public static void externAttach(BObject websubListener, BString servicePath,
-                                    BObject subscriberService, BObject httpService,
-                                    BMap<BString, Object> subscriberConfig) {
-        // add service-path to subscriber-obj as native data
-        // this information is useful to execute subscriber-service detach from websub-listener
-        subscriberService.addNativeData(SERVICE_PATH, servicePath);
+    public static void externInit(BObject websubListener) {
+        // the registry is created upfront, since the services could be attached and detached concurrently
+        websubListener.addNativeData(SERVICE_REGISTRY, ServiceRegistry.getInstance());
+    }
 
+    public static Object externAttach(BObject websubListener, BString servicePath,
+                                      BObject subscriberService, BObject httpService,
+                                      BMap<BString, Object> subscriberConfig) {
         // add subscriber-config to native-data. this information is useful when initiating subscription/unsubscription
         httpService.addNativeData(SUBSCRIBER_CONFIG, subscriberConfig);
 
         // add http-service into listener service-registry
         ServiceRegistry serviceRegistry = getServiceRegistry(websubListener);
-        serviceRegistry.addHttpService(servicePath, httpService);
+        String registeredPath = serviceRegistry.addHttpService(servicePath, httpService);
+        if (Objects.nonNull(registeredPath)) {
+            return createDuplicatePathError(registeredPath);
+        }
+
+        // add service-path to subscriber-obj as native data
+        // this information is useful to execute subscriber-service detach from websub-listener
+        subscriberService.addNativeData(SERVICE_PATH, servicePath);
+        return null;
     }
 
-    private static ServiceRegistry getServiceRegistry(BObject websubListener) {
-        Object serviceRegistry = websubListener.getNativeData(SERVICE_REGISTRY);
-        if (Objects.nonNull(serviceRegistry)) {
-            return (ServiceRegistry) serviceRegistry;
+    @SuppressWarnings("unchecked")
+    public static Object externAttachAll(BObject websubListener, BArray registrations) {
+        Map<String, BObject> httpServices = new HashMap<>();
+        for (int i = 0; i < registrations.size(); i++) {
+            BMap<BString, Object> registration = (BMap<BString, Object>) registrations.get(i);
+            BString servicePath = registration.getStringValue(SERVICE_PATH_FIELD);
+            BObject httpService = (BObject) registration.get(HTTP_SERVICE_FIELD);
+            httpService.addNativeData(SUBSCRIBER_CONFIG, registration.get(CONFIG_FIELD));
+            if (Objects.nonNull(httpServices.put(servicePath.getValue(), httpService))) {
+                return createDuplicatePathError(servicePath.getValue());
+            }
+        }
+        String registeredPath = getServiceRegistry(websubListener).addHttpServices(httpServices);
+        if (Objects.nonNull(registeredPath)) {
+            return createDuplicatePathError(registeredPath);
+        }
+        for (int i = 0; i < registrations.size(); i++) {
+            BMap<BString, Object> registration = (BMap<BString, Object>) registrations.get(i);
+            ((BObject) registration.get(SUBSCRIBER_SERVICE_FIELD))
+                    .addNativeData(SERVICE_PATH, registration.getStringValue(SERVICE_PATH_FIELD));
         }
-        // if the service-registry not available, create an instance and add it to the listener native-data
-        ServiceRegistry serviceRegistryInstance = ServiceRegistry.getInstance();
-        websubListener.addNativeData(SERVICE_REGISTRY, serviceRegistryInstance);
-        return serviceRegistryInstance;
+        return null;
+    }
+
+    private static BError createDuplicatePathError(String servicePath) {
+        return ErrorCreator.createError(ModuleUtils.getModule(), "ListenerError",
+                StringUtils.fromString(String.format("A service is already attached to the path [%s]", servicePath)),
+                null, null);
+    }
+
+    public static void externAttachMultiplexer(BObject websubListener, BObject multiplexedService) {
+        // the multiplexed http-service resolves the http-services of the subscriptions from the listener registry
+        multiplexedService.addNativeData(SERVICE_REGISTRY, getServiceRegistry(websubListener));
+    }
+
+    public static Object retrieveHttpService(BObject multiplexedService, BString subscriptionId) {
+        return getServiceRegistry(multiplexedService).getHttpService(subscriptionId.getValue());
+    }
+
+    private static ServiceRegistry getServiceRegistry(BObject registryOwner) {
+        return (ServiceRegistry) registryOwner.getNativeData(SERVICE_REGISTRY);
     }
 
     public static BObject detachHttpService(BObject websubListener, BObject subscriberService) {
-        ServiceRegistry serviceRegistry = (ServiceRegistry) websubListener.getNativeData(SERVICE_REGISTRY);
-        return serviceRegistry.detachHttpService(subscriberService);
+        return getServiceRegistry(websubListener).detachHttpService(subscriberService);
+    }
+
+    public static BArray detachHttpServices(BObject websubListener, BArray subscriberServices) {
+        List<BObject> services = new ArrayList<>(subscriberServices.size());
+        for (int i = 0; i < subscriberServices.size(); i++) {
+            services.add((BObject) subscriberServices.get(i));
+        }
+        List<BObject> detachedServices = getServiceRegistry(websubListener).detachHttpServices(services);
+        return detachedServices.isEmpty() ? null : createServiceArray(detachedServices.toArray(new BObject[0]));
     }
 
     public static BArray retrieveAttachedServices(BObject websubListener) {
-        Object serviceRegistryObj = websubListener.getNativeData(SERVICE_REGISTRY);
-        if (Objects.nonNull(serviceRegistryObj)) {
-            ServiceRegistry serviceRegistry = (ServiceRegistry) serviceRegistryObj;
-            BObject[] attachedServices = serviceRegistry.getAttachedServices();
-            if (attachedServices.length > 0) {
-                ArrayType arrType = TypeCreator.createArrayType(TypeUtils.getType(attachedServices[0]));
-                return ValueCreator.createArrayValue(attachedServices, arrType);
+        BObject[] attachedServices = getServiceRegistry(websubListener).getAttachedServices();
+        return attachedServices.length > 0 ? createServiceArray(attachedServices) : null;
+    }
+
+    public static void initLeaseRenewalScheduler(BObject scheduler, BMap<BString, Object> leaseRenewalConfig) {
+        scheduler.addNativeData(LEASE_RENEWAL_SCHEDULER, LeaseRenewalScheduler.create(leaseRenewalConfig));
+    }
+
+    private static LeaseRenewalScheduler getLeaseRenewalScheduler(BObject scheduler) {
+        return (LeaseRenewalScheduler) scheduler.getNativeData(LEASE_RENEWAL_SCHEDULER);
+    }
+
+    public static void scheduleLeaseRenewal(BObject scheduler, BObject httpService, long leaseSeconds) {
+        getLeaseRenewalScheduler(scheduler).schedule(httpService, leaseSeconds);
+    }
+
+    public static void cancelLeaseRenewal(BObject scheduler, BObject httpService) {
+        getLeaseRenewalScheduler(scheduler).cancel(httpService);
+    }
+
+    public static boolean retryLeaseRenewal(BObject scheduler, BObject httpService) {
+        return getLeaseRenewalScheduler(scheduler).retry(httpService);
+    }
+
+    public static BArray takeDueLeaseRenewals(Environment env, BObject scheduler) {
+        LeaseRenewalScheduler renewalScheduler = getLeaseRenewalScheduler(scheduler);
+        List<BObject> dueServices = env.yieldAndRun(renewalScheduler::takeDue);
+        return Objects.isNull(dueServices) ? null : createServiceArray(dueServices.toArray(new BObject[0]));
+    }
+
+    public static void closeLeaseRenewalScheduler(BObject scheduler) {
+        getLeaseRenewalScheduler(scheduler).close();
+    }
+
+    public static void initSubscriptionInitiator(BObject initiator, BArray httpServices, Object requestsPerSecond) {
+        initiator.addNativeData(SUBSCRIPTION_INITIATOR, SubscriptionInitiator.create(httpServices, requestsPerSecond));
+    }
+
+    private static SubscriptionInitiator getSubscriptionInitiator(BObject initiator) {
+        return (SubscriptionInitiator) initiator.getNativeData(SUBSCRIPTION_INITIATOR);
+    }
+
+    public static Object takeNextService(BObject initiator) {
+        return getSubscriptionInitiator(initiator).next();
+    }
+
+    public static void acquireHubPermit(Environment env, BObject initiator, BString hub) {
+        long waitNanos = getSubscriptionInitiator(initiator).reservePermit(hub.getValue());
+        if (waitNanos <= 0) {
+            return;
+        }
+        env.yieldAndRun(() -> {
+            try {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
             }
             return null;
-        }
-        return null;
+        });
+    }
+
+    private static BArray createServiceArray(BObject[] services) {
+        ArrayType arrType = TypeCreator.createArrayType(TypeUtils.getType(services[0]));
+        return ValueCreator.createArrayValue(services, arrType);
     }
 }
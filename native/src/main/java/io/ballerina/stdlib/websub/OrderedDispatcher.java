@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.websub;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * {@code OrderedDispatcher} maintains a serial lane per ordering key. Content distribution requests sharing the same
+ * key are processed one at a time in their arrival order, while the requests with different keys are processed
+ * concurrently. A lane is discarded as soon as there are no pending requests for its key.
+ */
+public final class OrderedDispatcher {
+    private final ReentrantLock lanesLock = new ReentrantLock();
+    private final Map<String, Lane> lanes = new HashMap<>();
+
+    /**
+     * Joins the lane of the provided key and waits until all the previously arrived requests of the same key are
+     * processed.
+     *
+     * @param key ordering key of the request
+     */
+    public void enter(String key) {
+        reserve(key).await();
+    }
+
+    /**
+     * Reserves a position in the lane of the provided key without waiting for it. This allows the callers to fix the
+     * order of the requests while holding their own locks, and to wait for the turn afterwards.
+     *
+     * @param key ordering key of the request
+     * @return the reserved position in the lane
+     */
+    Turn reserve(String key) {
+        lanesLock.lock();
+        try {
+            Lane lane = lanes.computeIfAbsent(key, k -> new Lane());
+            lane.pending++;
+            return new Turn(lane, lane.nextTicket++);
+        } finally {
+            lanesLock.unlock();
+        }
+    }
+
+    /**
+     * Leaves the lane of the provided key, so that the next request of the same key could be processed.
+     *
+     * @param key ordering key of the request
+     */
+    public void exit(String key) {
+        lanesLock.lock();
+        try {
+            Lane lane = lanes.get(key);
+            if (lane == null) {
+                return;
+            }
+            lane.advance();
+            lane.pending--;
+            if (lane.pending == 0) {
+                lanes.remove(key);
+            }
+        } finally {
+            lanesLock.unlock();
+        }
+    }
+
+    static final class Turn {
+        private final Lane lane;
+        private final long ticket;
+
+        private Turn(Lane lane, long ticket) {
+            this.lane = lane;
+            this.ticket = ticket;
+        }
+
+        void await() {
+            lane.awaitTurn(ticket);
+        }
+    }
+
+    private static final class Lane {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition turnChanged = lock.newCondition();
+        // `nextTicket` and `pending` are guarded by the `lanesLock` of the enclosing dispatcher
+        private long nextTicket;
+        private int pending;
+        private long servingTicket;
+
+        private void awaitTurn(long ticket) {
+            lock.lock();
+            try {
+                while (servingTicket != ticket) {
+                    turnChanged.awaitUninterruptibly();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void advance() {
+            lock.lock();
+            try {
+                servingTicket++;
+                turnChanged.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.websub;
+
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static io.ballerina.runtime.api.utils.StringUtils.fromString;
+
+/**
+ * {@code PayloadStore} holds the raw payloads of the queued content distribution messages outside the message values.
+ * Small payloads stay on the heap, medium payloads are copied into pooled direct buffers, and the payloads larger than
+ * the file threshold (or the payloads which do not fit into the direct buffer pool) are spilled to memory-mapped
+ * temporary files. This keeps the large payloads which are waiting to be delivered from dominating the GC.
+ */
+final class PayloadStore {
+    private static final BString HEAP_THRESHOLD = fromString("heapThreshold");
+    private static final BString DIRECT_MEMORY_LIMIT = fromString("directMemoryLimit");
+    private static final BString FILE_THRESHOLD = fromString("fileThreshold");
+    private static final BString DIRECTORY = fromString("directory");
+    private static final int DIRECT_CHUNK_SIZE = 64 * 1024;
+    private static final String TEMP_FILE_PREFIX = "websub-payload-";
+
+    private final int heapThreshold;
+    private final int fileThreshold;
+    private final int maxDirectChunks;
+    private final Path directory;
+    private final ReentrantLock poolLock = new ReentrantLock();
+    private final Deque<ByteBuffer> idleChunks = new ArrayDeque<>();
+    private int allocatedChunks;
+
+    private PayloadStore(int heapThreshold, int fileThreshold, int maxDirectChunks, Path directory) {
+        this.heapThreshold = heapThreshold;
+        this.fileThreshold = fileThreshold;
+        this.maxDirectChunks = maxDirectChunks;
+        this.directory = directory;
+    }
+
+    static PayloadStore create(BMap<BString, Object> storageConfig) {
+        int heapThreshold = toIntSize(storageConfig.getIntValue(HEAP_THRESHOLD));
+        int fileThreshold = Math.max(heapThreshold, toIntSize(storageConfig.getIntValue(FILE_THRESHOLD)));
+        int maxDirectChunks = toIntSize(storageConfig.getIntValue(DIRECT_MEMORY_LIMIT) / DIRECT_CHUNK_SIZE);
+        Object directory = storageConfig.get(DIRECTORY);
+        Path tempDirectory = Objects.isNull(directory) ? Path.of(System.getProperty("java.io.tmpdir"))
+                : Path.of(((BString) directory).getValue());
+        return new PayloadStore(heapThreshold, fileThreshold, maxDirectChunks, tempDirectory);
+    }
+
+    private static int toIntSize(long size) {
+        return (int) Math.max(0, Math.min(Integer.MAX_VALUE, size));
+    }
+
+    /**
+     * Stores the provided payload in the tier which matches its size.
+     *
+     * @param payload raw payload, which should not be modified afterwards
+     * @return the holder of the stored payload
+     * @throws IOException if the payload could not be spilled to a file
+     */
+    Holder hold(byte[] payload) throws IOException {
+        if (payload.length <= heapThreshold) {
+            return new HeapHolder(payload);
+        }
+        if (payload.length <= fileThreshold) {
+            ByteBuffer[] chunks = acquireChunks(payload.length);
+            if (Objects.nonNull(chunks)) {
+                return new DirectHolder(chunks, payload);
+            }
+        }
+        return new FileHolder(payload);
+    }
+
+    private ByteBuffer[] acquireChunks(int size) {
+        int chunkCount = (size + DIRECT_CHUNK_SIZE - 1) / DIRECT_CHUNK_SIZE;
+        poolLock.lock();
+        try {
+            if (idleChunks.size() + (maxDirectChunks - allocatedChunks) < chunkCount) {
+                // the direct buffer pool is exhausted, hence the payload is spilled to a file
+                return null;
+            }
+            ByteBuffer[] chunks = new ByteBuffer[chunkCount];
+            for (int i = 0; i < chunkCount; i++) {
+                ByteBuffer chunk = idleChunks.pollFirst();
+                if (Objects.isNull(chunk)) {
+                    chunk = ByteBuffer.allocateDirect(DIRECT_CHUNK_SIZE);
+                    allocatedChunks++;
+                }
+                chunks[i] = chunk;
+            }
+            return chunks;
+        } finally {
+            poolLock.unlock();
+        }
+    }
+
+    private void releaseChunks(ByteBuffer[] chunks) {
+        poolLock.lock();
+        try {
+            for (ByteBuffer chunk : chunks) {
+                chunk.clear();
+                idleChunks.addFirst(chunk);
+            }
+        } finally {
+            poolLock.unlock();
+        }
+    }
+
+    /**
+     * {@code Holder} holds a stored payload until it is read back.
+     */
+    interface Holder {
+
+        /**
+         * Reads the stored payload and releases the resources held for it. The holder should not be used afterwards.
+         *
+         * @return the stored payload
+         * @throws IOException if the payload could not be read
+         */
+        byte[] take() throws IOException;
+    }
+
+    private static final class HeapHolder implements Holder {
+        private final byte[] payload;
+
+        private HeapHolder(byte[] payload) {
+            this.payload = payload;
+        }
+
+        @Override
+        public byte[] take() {
+            return payload;
+        }
+    }
+
+    private final class DirectHolder implements Holder {
+        private final ByteBuffer[] chunks;
+        private final int size;
+
+        private DirectHolder(ByteBuffer[] chunks, byte[] payload) {
+            this.chunks = chunks;
+            this.size = payload.length;
+            int offset = 0;
+            for (ByteBuffer chunk : chunks) {
+                int length = Math.min(DIRECT_CHUNK_SIZE, size - offset);
+                chunk.put(payload, offset, length);
+                offset += length;
+            }
+        }
+
+        @Override
+        public byte[] take() {
+            byte[] payload = new byte[size];
+            int offset = 0;
+            for (ByteBuffer chunk : chunks) {
+                chunk.flip();
+                int length = chunk.remaining();
+                chunk.get(payload, offset, length);
+                offset += length;
+            }
+            releaseChunks(chunks);
+            return payload;
+        }
+    }
+
+    private final class FileHolder implements Holder {
+        private final Path file;
+        private final MappedByteBuffer buffer;
+
+        private FileHolder(byte[] payload) throws IOException {
+            this.file = Files.createTempFile(directory, TEMP_FILE_PREFIX, null);
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                // the mapping remains valid after the channel is closed
+                this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, payload.length);
+                this.buffer.put(payload);
+            } catch (IOException e) {
+                Files.deleteIfExists(file);
+                throw e;
+            }
+        }
+
+        @Override
+        public byte[] take() throws IOException {
+            byte[] payload = new byte[buffer.capacity()];
+            buffer.get(0, payload);
+            Files.deleteIfExists(file);
+            return payload;
+        }
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.websub;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.types.IntersectionType;
+import io.ballerina.runtime.api.types.MethodType;
+import io.ballerina.runtime.api.types.ObjectType;
+import io.ballerina.runtime.api.types.Parameter;
+import io.ballerina.runtime.api.types.RecordType;
+import io.ballerina.runtime.api.types.Type;
+import io.ballerina.runtime.api.types.TypeTags;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTypedesc;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+
+import static io.ballerina.stdlib.websub.Constants.ON_EVENT_NOTIFICATION;
+
+/**
+ * {@code ServiceDispatchDescriptor} holds the dispatching related metadata of a websub subscriber service. This is
+ * resolved once, when the service is attached, so that the service type is not inspected for every received request.
+ */
+public final class ServiceDispatchDescriptor {
+    private static final String CONTENT_DISTRIBUTION_MESSAGE = "ContentDistributionMessage";
+    private static final String CONTENT_FIELD = "content";
+
+    private final BObject service;
+    private final Set<String> remoteMethods;
+    private final Set<String> readOnlyParamMethods;
+    private final Set<String> messageHandlerMethods;
+    private final BArray methodNames;
+    private final RecordType boundMessageType;
+    private final BTypedesc boundContentType;
+
+    private ServiceDispatchDescriptor(BObject service, Set<String> remoteMethods, Set<String> readOnlyParamMethods,
+                                      Set<String> messageHandlerMethods, BArray methodNames,
+                                      RecordType boundMessageType, BTypedesc boundContentType) {
+        this.service = service;
+        this.remoteMethods = remoteMethods;
+        this.readOnlyParamMethods = readOnlyParamMethods;
+        this.messageHandlerMethods = messageHandlerMethods;
+        this.methodNames = methodNames;
+        this.boundMessageType = boundMessageType;
+        this.boundContentType = boundContentType;
+    }
+
+    public static ServiceDispatchDescriptor create(BObject service) {
+        ObjectType objectType = (ObjectType) TypeUtils.getReferredType(TypeUtils.getType(service));
+        MethodType[] methods = objectType.getMethods();
+        Set<String> remoteMethods = new HashSet<>();
+        Set<String> readOnlyParamMethods = new HashSet<>();
+        Set<String> messageHandlerMethods = new HashSet<>();
+        BString[] methodNames = new BString[methods.length];
+        RecordType boundMessageType = null;
+        for (int i = 0; i < methods.length; i++) {
+            MethodType method = methods[i];
+            String methodName = method.getName();
+            remoteMethods.add(methodName);
+            methodNames[i] = StringUtils.fromString(methodName);
+            if (isReadOnlyParam(method)) {
+                readOnlyParamMethods.add(methodName);
+            }
+            if (isMessageHandler(method)) {
+                messageHandlerMethods.add(methodName);
+            }
+            if (ON_EVENT_NOTIFICATION.equals(methodName)) {
+                boundMessageType = resolveBoundMessageType(method);
+            }
+        }
+        BArray methodNamesArr = ValueCreator.createArrayValue(methodNames);
+        methodNamesArr.freezeDirect();
+        BTypedesc boundContentType = Objects.isNull(boundMessageType) ? null : ValueCreator.createTypedescValue(
+                resolveBoundContentType(boundMessageType, readOnlyParamMethods.contains(ON_EVENT_NOTIFICATION)));
+        return new ServiceDispatchDescriptor(service, Collections.unmodifiableSet(remoteMethods),
+                Collections.unmodifiableSet(readOnlyParamMethods), Collections.unmodifiableSet(messageHandlerMethods),
+                methodNamesArr, boundMessageType, boundContentType);
+    }
+
+    /**
+     * Resolves the user declared message type of the {@code onEventNotification} method, when the method accepts a
+     * record which includes {@code websub:ContentDistributionMessage} with a narrowed {@code content} field.
+     *
+     * @param method {@code onEventNotification} method of the service
+     * @return the declared message type or {@code null} if the method accepts {@code websub:ContentDistributionMessage}
+     */
+    private static RecordType resolveBoundMessageType(MethodType method) {
+        Parameter[] parameters = method.getParameters();
+        if (parameters.length < 1) {
+            return null;
+        }
+        Type paramType = parameters[0].type;
+        if (paramType instanceof IntersectionType) {
+            // the message is frozen before the dispatch, hence the mutable constituent is used to create it
+            paramType = ((IntersectionType) paramType).getConstituentTypes().stream()
+                    .filter(t -> TypeTags.READONLY_TAG != t.getTag())
+                    .findFirst().orElse(paramType);
+        }
+        Type messageType = TypeUtils.getReferredType(paramType);
+        if (!(messageType instanceof RecordType) || isContentDistributionMessage(messageType)) {
+            return null;
+        }
+        Field contentField = ((RecordType) messageType).getFields().get(CONTENT_FIELD);
+        return Objects.isNull(contentField) ? null : (RecordType) messageType;
+    }
+
+    /**
+     * Checks whether a method accepts only a {@code websub:ContentDistributionMessage}, which could be readonly, so
+     * that a content distribution message could be dispatched to it.
+     *
+     * @param method a method of the service
+     * @return {@code true} if the method accepts a single {@code websub:ContentDistributionMessage} or else
+     * {@code false}
+     */
+    private static boolean isMessageHandler(MethodType method) {
+        Parameter[] parameters = method.getParameters();
+        if (parameters.length != 1) {
+            return false;
+        }
+        Type paramType = parameters[0].type;
+        if (paramType instanceof IntersectionType) {
+            paramType = ((IntersectionType) paramType).getConstituentTypes().stream()
+                    .filter(t -> TypeTags.READONLY_TAG != t.getTag())
+                    .findFirst().orElse(paramType);
+        }
+        return isContentDistributionMessage(TypeUtils.getReferredType(paramType));
+    }
+
+    private static Type resolveBoundContentType(RecordType boundMessageType, boolean readOnly) {
+        Type contentType = boundMessageType.getFields().get(CONTENT_FIELD).getFieldType();
+        if (!readOnly || contentType.isReadOnly()) {
+            return contentType;
+        }
+        // the content of a readonly message is bound to the immutable type, so that it is not frozen afterwards
+        Type immutableType = contentType.getImmutableType();
+        return Objects.isNull(immutableType) ? contentType : immutableType;
+    }
+
+    private static boolean isContentDistributionMessage(Type type) {
+        Module module = type.getPackage();
+        Module websubModule = ModuleUtils.getModule();
+        return CONTENT_DISTRIBUTION_MESSAGE.equals(type.getName()) && Objects.nonNull(module)
+                && Objects.equals(module.getOrg(), websubModule.getOrg())
+                && Objects.equals(module.getName(), websubModule.getName());
+    }
+
+    private static boolean isReadOnlyParam(MethodType method) {
+        Parameter[] parameters = method.getParameters();
+        if (parameters.length >= 1) {
+            Type paramType = parameters[0].type;
+            if (paramType instanceof IntersectionType) {
+                return ((IntersectionType) paramType).getConstituentTypes().stream()
+                        .anyMatch(t -> TypeTags.READONLY_TAG == t.getTag());
+            }
+        }
+        return false;
+    }
+
+    public BObject getService() {
+        return service;
+    }
+
+    public boolean isMethodAvailable(String methodName) {
+        return remoteMethods.contains(methodName);
+    }
+
+    public boolean isMessageHandler(String methodName) {
+        return messageHandlerMethods.contains(methodName);
+    }
+
+    public boolean isReadOnlyParam(String methodName) {
+        return readOnlyParamMethods.contains(methodName);
+    }
+
+    public BArray getMethodNames() {
+        return methodNames;
+    }
+
+    public RecordType getBoundMessageType() {
+        return boundMessageType;
+    }
+
+    public BTypedesc getBoundContentType() {
+        return boundContentType;
+    }
+}
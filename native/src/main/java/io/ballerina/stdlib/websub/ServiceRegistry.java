@@ -21,36 +21,130 @@ package io.ballerina.stdlib.websub;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
 
 import static io.ballerina.stdlib.websub.Constants.SERVICE_PATH;
 
 /**
- * {@code ServiceRegistry} contains the http-services attached to websub-listener.
+ * {@code ServiceRegistry} contains the http-services attached to websub-listener. Services could be attached and
+ * detached while the listener is serving requests, hence the lookups by the service path are lock-free and the
+ * attached services are iterated over an immutable snapshot. The snapshot is discarded on every change and rebuilt
+ * only when the attached services are retrieved, so that attaching or detaching a service does not depend on the
+ * number of services already attached.
  */
 public final class ServiceRegistry {
+    private static final BObject[] NO_SERVICES = new BObject[0];
+
     private final Map<String, BObject> registeredServices;
+    // the changes are serialized, so that a snapshot is never built from a concurrently modified registry
+    private final ReentrantLock lock;
+    // `null` when the registry has changed after the last snapshot was built
+    private volatile BObject[] snapshot;
 
     private ServiceRegistry() {
-        this.registeredServices = new HashMap<>();
+        this.registeredServices = new ConcurrentHashMap<>();
+        this.lock = new ReentrantLock();
+        this.snapshot = NO_SERVICES;
     }
 
     public static ServiceRegistry getInstance() {
         return new ServiceRegistry();
     }
 
-    public void addHttpService(BString servicePath, BObject httpService) {
-        registeredServices.put(servicePath.getValue(), httpService);
+    public String addHttpService(BString servicePath, BObject httpService) {
+        return addHttpServices(Map.of(servicePath.getValue(), httpService));
+    }
+
+    /**
+     * Adds a set of http-services to the registry. None of the http-services are added if any of the service paths
+     * is already registered.
+     *
+     * @param httpServices http-services mapped by their service paths
+     * @return the first service path which is already registered, or {@code null} if the http-services were added
+     */
+    public String addHttpServices(Map<String, BObject> httpServices) {
+        lock.lock();
+        try {
+            for (String servicePath : httpServices.keySet()) {
+                if (registeredServices.containsKey(servicePath)) {
+                    return servicePath;
+                }
+            }
+            registeredServices.putAll(httpServices);
+            snapshot = null;
+        } finally {
+            lock.unlock();
+        }
+        return null;
+    }
+
+    /**
+     * Retrieves the http-service registered for a service path without acquiring the registry lock.
+     *
+     * @param servicePath service path of the http-service
+     * @return the registered http-service, or {@code null} if there is no http-service for the service path
+     */
+    public BObject getHttpService(String servicePath) {
+        return registeredServices.get(servicePath);
     }
 
     public BObject detachHttpService(BObject subscriberService) {
-        BString servicePath = (BString) subscriberService.getNativeData(SERVICE_PATH);
-        return registeredServices.remove(servicePath.getValue());
+        List<BObject> detachedServices = detachHttpServices(List.of(subscriberService));
+        return detachedServices.isEmpty() ? null : detachedServices.get(0);
+    }
+
+    /**
+     * Removes the http-services of a set of subscriber-services from the registry.
+     *
+     * @param subscriberServices subscriber-services to be detached
+     * @return the detached http-services, which excludes the subscriber-services that are not attached
+     */
+    public List<BObject> detachHttpServices(List<BObject> subscriberServices) {
+        List<BObject> detachedServices = new ArrayList<>(subscriberServices.size());
+        lock.lock();
+        try {
+            for (BObject subscriberService : subscriberServices) {
+                BString servicePath = (BString) subscriberService.getNativeData(SERVICE_PATH);
+                BObject httpService = Objects.isNull(servicePath) ? null
+                        : registeredServices.remove(servicePath.getValue());
+                if (Objects.nonNull(httpService)) {
+                    detachedServices.add(httpService);
+                }
+            }
+            if (!detachedServices.isEmpty()) {
+                snapshot = null;
+            }
+        } finally {
+            lock.unlock();
+        }
+        return detachedServices;
     }
 
+    /**
+     * Retrieves the http-services which are attached at the time of the invocation. The returned array is not
+     * affected by the services attached or detached afterwards.
+     *
+     * @return the attached http-services
+     */
     public BObject[] getAttachedServices() {
-        BObject[] target = new BObject[registeredServices.values().size()];
-        return registeredServices.values().toArray(target);
+        BObject[] attachedServices = snapshot;
+        if (Objects.isNull(attachedServices)) {
+            lock.lock();
+            try {
+                attachedServices = snapshot;
+                if (Objects.isNull(attachedServices)) {
+                    attachedServices = registeredServices.values().toArray(NO_SERVICES);
+                    snapshot = attachedServices;
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+        return attachedServices.clone();
     }
 }
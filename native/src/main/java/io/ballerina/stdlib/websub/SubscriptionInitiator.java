@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.websub;
+
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BObject;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@code SubscriptionInitiator} hands over the http-services of which the subscriptions should be initiated to a set
+ * of concurrent strands, and shapes the rate of the subscription requests sent to each `hub`. The requests to a `hub`
+ * are spaced by a fixed interval, which is reserved without acquiring a lock.
+ */
+final class SubscriptionInitiator {
+    private static final BigDecimal NANOS_PER_SECOND = BigDecimal.valueOf(TimeUnit.SECONDS.toNanos(1));
+
+    private final BObject[] httpServices;
+    private final AtomicInteger nextService = new AtomicInteger();
+    private final long intervalNanos;
+    private final long startNanos;
+    private final Map<String, AtomicLong> nextPermits = new ConcurrentHashMap<>();
+
+    private SubscriptionInitiator(BObject[] httpServices, long intervalNanos) {
+        this.httpServices = httpServices;
+        this.intervalNanos = intervalNanos;
+        this.startNanos = System.nanoTime();
+    }
+
+    static SubscriptionInitiator create(BArray httpServices, Object requestsPerSecond) {
+        BObject[] services = new BObject[httpServices.size()];
+        for (int i = 0; i < services.length; i++) {
+            services[i] = (BObject) httpServices.get(i);
+        }
+        long intervalNanos = 0;
+        if (requestsPerSecond instanceof BDecimal) {
+            BigDecimal rate = ((BDecimal) requestsPerSecond).decimalValue();
+            if (rate.signum() > 0) {
+                intervalNanos = NANOS_PER_SECOND.divide(rate, 0, RoundingMode.CEILING).longValue();
+            }
+        }
+        return new SubscriptionInitiator(services, intervalNanos);
+    }
+
+    /**
+     * Retrieves the next http-service of which the subscription should be initiated.
+     *
+     * @return the next http-service, or {@code null} if all the http-services are already handed over
+     */
+    BObject next() {
+        int idx = nextService.getAndIncrement();
+        return idx < httpServices.length ? httpServices[idx] : null;
+    }
+
+    /**
+     * Reserves the next slot to send a subscription request to a `hub`.
+     *
+     * @param hub URL of the `hub`
+     * @return the time to wait in nanoseconds until the reserved slot
+     */
+    long reservePermit(String hub) {
+        if (intervalNanos == 0) {
+            return 0;
+        }
+        AtomicLong nextPermit = nextPermits.computeIfAbsent(hub, k -> new AtomicLong());
+        long now = System.nanoTime() - startNanos;
+        while (true) {
+            long permit = nextPermit.get();
+            long slot = Math.max(now, permit);
+            if (nextPermit.compareAndSet(permit, slot + intervalNanos)) {
+                return slot - now;
+            }
+        }
+    }
+}
@@ -0,0 +1,253 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.websub;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.Set;
+
+import static io.ballerina.stdlib.websub.Constants.ON_EVENT_NOTIFICATION_BATCH;
+import static io.ballerina.stdlib.websub.Constants.ON_HUB_ERROR;
+import static io.ballerina.stdlib.websub.Constants.ON_SUBSCRIPTION_VALIDATION_DENIED;
+import static io.ballerina.stdlib.websub.Constants.ON_SUBSCRIPTION_VERIFICATION;
+import static io.ballerina.stdlib.websub.Constants.ON_UNSUBSCRIPTION_VERIFICATION;
+
+/**
+ * {@code TopicRouter} resolves the service method to which a content distribution request is dispatched based on its
+ * topic. The routes are compiled into a trie of topic segments when the service is attached, hence resolving the
+ * method of a topic depends only on the number of segments of the topic, and not on the number of the routes.
+ * <p>
+ * A route pattern is matched against the {@code /} separated segments of the topic, where a {@code *} segment matches
+ * any single segment and a trailing {@code **} segment matches any number of remaining segments. When more than one
+ * route matches a topic, the literal segments are preferred over {@code *}, and {@code *} is preferred over
+ * {@code **}, segment by segment from the start of the topic.
+ */
+final class TopicRouter {
+    private static final BString TOPIC = StringUtils.fromString("topic");
+    private static final BString HANDLER = StringUtils.fromString("handler");
+    private static final String SEGMENT_SEPARATOR = "/";
+    private static final String SEGMENT_WILDCARD = "*";
+    private static final String REMAINDER_WILDCARD = "**";
+    // the methods which are dispatched by the websub protocol itself could not be used as handlers
+    private static final Set<String> RESERVED_METHODS = Set.of(ON_SUBSCRIPTION_VERIFICATION,
+            ON_UNSUBSCRIPTION_VERIFICATION, ON_SUBSCRIPTION_VALIDATION_DENIED, ON_HUB_ERROR,
+            ON_EVENT_NOTIFICATION_BATCH);
+
+    private final Node root;
+
+    private TopicRouter(Node root) {
+        this.root = root;
+    }
+
+    /**
+     * Compiles the configured routes of a subscriber service.
+     *
+     * @param routes     configured routes
+     * @param descriptor dispatching metadata of the subscriber service
+     * @return the compiled router
+     * @throws IllegalArgumentException if a route is invalid, if its handler is not a method of the service which
+     *                                  accepts a content distribution message, or if the service receives the content
+     *                                  in batches
+     */
+    @SuppressWarnings("unchecked")
+    static TopicRouter create(BArray routes, ServiceDispatchDescriptor descriptor) {
+        if (descriptor.isMethodAvailable(ON_EVENT_NOTIFICATION_BATCH)) {
+            // the batched content is always delivered via `onEventNotificationBatch`, hence the routes would be ignored
+            throw new IllegalArgumentException(String.format(
+                    "Topic routes could not be used with the [%s] method", ON_EVENT_NOTIFICATION_BATCH));
+        }
+        Node root = new Node();
+        for (int i = 0; i < routes.size(); i++) {
+            BMap<BString, Object> route = (BMap<BString, Object>) routes.get(i);
+            String pattern = route.getStringValue(TOPIC).getValue();
+            String handler = route.getStringValue(HANDLER).getValue();
+            if (!descriptor.isMethodAvailable(handler)) {
+                throw new IllegalArgumentException(String.format(
+                        "Handler method [%s] of the topic route [%s] is not available in the service",
+                        handler, pattern));
+            }
+            if (RESERVED_METHODS.contains(handler)) {
+                throw new IllegalArgumentException(String.format(
+                        "Handler method [%s] of the topic route [%s] is reserved for the websub protocol",
+                        handler, pattern));
+            }
+            if (!descriptor.isMessageHandler(handler)) {
+                throw new IllegalArgumentException(String.format(
+                        "Handler method [%s] of the topic route [%s] should accept only a "
+                                + "websub:ContentDistributionMessage", handler, pattern));
+            }
+            addRoute(root, pattern, handler);
+        }
+        return new TopicRouter(root);
+    }
+
+    private static void addRoute(Node root, String pattern, String handler) {
+        String[] segments = pattern.split(SEGMENT_SEPARATOR, -1);
+        Node node = root;
+        for (int i = 0; i < segments.length; i++) {
+            String segment = segments[i];
+            if (REMAINDER_WILDCARD.equals(segment)) {
+                if (i != segments.length - 1) {
+                    throw new IllegalArgumentException(String.format(
+                            "Topic route [%s] should have the [**] wildcard only as the last segment", pattern));
+                }
+                node.remainderHandler = assignHandler(node.remainderHandler, pattern, handler);
+                return;
+            }
+            node = SEGMENT_WILDCARD.equals(segment) ? node.wildcardChild() : node.children.getOrCreate(segment);
+        }
+        node.handler = assignHandler(node.handler, pattern, handler);
+    }
+
+    private static String assignHandler(String currentHandler, String pattern, String handler) {
+        if (currentHandler != null) {
+            throw new IllegalArgumentException(String.format("Topic route [%s] is declared more than once", pattern));
+        }
+        return handler;
+    }
+
+    /**
+     * Resolves the service method of a topic. This does not allocate, since the segments of the topic are matched in
+     * place.
+     *
+     * @param topic topic of the content distribution request
+     * @return the name of the service method, or {@code null} if none of the routes matches the topic
+     */
+    String resolveHandler(String topic) {
+        return match(root, topic, 0);
+    }
+
+    // `start` is the index of the current segment, or `-1` when all the segments of the topic are matched
+    private static String match(Node node, String topic, int start) {
+        if (start < 0) {
+            return node.handler != null ? node.handler : node.remainderHandler;
+        }
+        int end = topic.indexOf(SEGMENT_SEPARATOR, start);
+        int next = end < 0 ? -1 : end + 1;
+        if (end < 0) {
+            end = topic.length();
+        }
+        Node child = node.children.get(topic, start, end);
+        if (child != null) {
+            String handler = match(child, topic, next);
+            if (handler != null) {
+                return handler;
+            }
+        }
+        if (node.wildcardChild != null) {
+            String handler = match(node.wildcardChild, topic, next);
+            if (handler != null) {
+                return handler;
+            }
+        }
+        return node.remainderHandler;
+    }
+
+    private static final class Node {
+        private final SegmentTable children = new SegmentTable();
+        private Node wildcardChild;
+        // handler of the route which ends at this node
+        private String handler;
+        // handler of the route which ends with `**` at this node
+        private String remainderHandler;
+
+        private Node wildcardChild() {
+            if (wildcardChild == null) {
+                wildcardChild = new Node();
+            }
+            return wildcardChild;
+        }
+    }
+
+    /**
+     * An open-addressing table of the literal child segments of a trie node, which is looked up with a segment of the
+     * topic without extracting it as a separate string.
+     */
+    private static final class SegmentTable {
+        private static final int INITIAL_CAPACITY = 4;
+
+        private String[] keys = new String[0];
+        private Node[] values = new Node[0];
+        private int size;
+
+        private Node get(String topic, int start, int end) {
+            if (size == 0) {
+                return null;
+            }
+            int length = end - start;
+            int hash = 0;
+            for (int i = start; i < end; i++) {
+                hash = 31 * hash + topic.charAt(i);
+            }
+            int mask = keys.length - 1;
+            for (int idx = spread(hash) & mask; keys[idx] != null; idx = (idx + 1) & mask) {
+                String key = keys[idx];
+                if (key.length() == length && key.regionMatches(0, topic, start, length)) {
+                    return values[idx];
+                }
+            }
+            return null;
+        }
+
+        private Node getOrCreate(String segment) {
+            Node node = get(segment, 0, segment.length());
+            if (node != null) {
+                return node;
+            }
+            // the load factor is kept below 0.5, so that a lookup probes only a few slots
+            if ((size + 1) * 2 > keys.length) {
+                resize(Math.max(INITIAL_CAPACITY, keys.length * 2));
+            }
+            node = new Node();
+            put(segment, node);
+            return node;
+        }
+
+        private void put(String segment, Node node) {
+            int mask = keys.length - 1;
+            int idx = spread(segment.hashCode()) & mask;
+            while (keys[idx] != null) {
+                idx = (idx + 1) & mask;
+            }
+            keys[idx] = segment;
+            values[idx] = node;
+            size++;
+        }
+
+        private void resize(int capacity) {
+            String[] oldKeys = keys;
+            Node[] oldValues = values;
+            keys = new String[capacity];
+            values = new Node[capacity];
+            size = 0;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != null) {
+                    put(oldKeys[i], oldValues[i]);
+                }
+            }
+        }
+
+        private static int spread(int hash) {
+            return hash ^ (hash >>> 16);
+        }
+    }
+}